@@ -0,0 +1,51 @@
+package com.opsrequests.config;
+
+import com.opsrequests.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt runs on its own fixed-size pool with a bounded queue, reported under the
+ * {@code executor.*} metrics with {@code name=password.hashing}.
+ */
+@Configuration
+public class PasswordHashingConfig {
+
+    private static final String EXECUTOR_NAME = "password.hashing";
+
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor passwordHashingExecutor(
+            @Value("${auth.password-hashing.pool-size:0}") int poolSize,
+            @Value("${auth.password-hashing.queue-capacity:32}") int queueCapacity) {
+        // Default to half the cores so hashing bursts leave CPU for the rest of the API
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder(ThreadPoolExecutor passwordHashingExecutor, MeterRegistry meterRegistry,
+                                           @Value("${auth.password-hashing.timeout-ms:5000}") long timeoutMs) {
+        ExecutorService monitored = ExecutorServiceMetrics.monitor(meterRegistry, passwordHashingExecutor,
+                EXECUTOR_NAME, List.of());
+        Counter rejections = Counter.builder("executor.rejected.requests")
+                .description("Password hashing calls refused because the pool and queue were full or timed out")
+                .tag("name", EXECUTOR_NAME)
+                .register(meterRegistry);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), monitored, timeoutMs, rejections);
+    }
+}
@@ -1,19 +1,39 @@
 package com.opsrequests.controller;
 
 import com.opsrequests.dto.request.*;
+import com.opsrequests.dto.response.AuditEventPageResponse;
+import com.opsrequests.dto.response.BulkDecisionResponse;
+import com.opsrequests.dto.response.ReadModelRebuildResponse;
+import com.opsrequests.dto.response.RequestChangesResponse;
+import com.opsrequests.dto.response.CommentPageResponse;
 import com.opsrequests.dto.response.CommentResponse;
-import com.opsrequests.dto.response.RequestDetailResponse;
+import com.opsrequests.dto.response.RequestPageResponse;
 import com.opsrequests.dto.response.RequestResponse;
+import com.opsrequests.dto.response.RequestStatsResponse;
+import com.opsrequests.entity.Request.Priority;
+import com.opsrequests.entity.Request.Status;
 import com.opsrequests.security.UserPrincipal;
+import com.opsrequests.service.RequestDetailCache;
+import com.opsrequests.service.RequestEventHub;
+import com.opsrequests.service.RequestExportService;
 import com.opsrequests.service.RequestService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -22,16 +42,105 @@ import java.util.List;
 @Tag(name = "Requests", description = "Request management endpoints")
 public class RequestController {
 
+    /** Lets browsers keep responses but revalidate them with If-None-Match on every use. */
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final RequestService requestService;
+    private final RequestExportService requestExportService;
+    private final RequestEventHub requestEventHub;
 
     @GetMapping
-    @Operation(summary = "List requests", description = "List requests filtered by role")
+    @Operation(summary = "List requests",
+            description = "List requests filtered by role; answers If-None-Match with 304 when nothing changed")
     public ResponseEntity<List<RequestResponse>> getRequests(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) Long typeId,
-            @RequestParam(required = false) String priority) {
-        return ResponseEntity.ok(requestService.getRequests(userPrincipal, status, typeId, priority));
+            @RequestParam(required = false) String priority,
+            WebRequest webRequest) {
+        String version = requestService.getRequestsVersion(userPrincipal, status, typeId, priority);
+        if (webRequest.checkNotModified(version)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(version)
+                .cacheControl(REVALIDATE)
+                .body(requestService.getRequests(userPrincipal, status, typeId, priority));
+    }
+
+    @GetMapping("/page")
+    @Operation(summary = "List requests by page",
+            description = "Keyset-paginated request listing filtered by role; pass nextCursor to fetch the next page")
+    public ResponseEntity<RequestPageResponse> getRequestPage(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(required = false) Status status,
+            @RequestParam(required = false) Long typeId,
+            @RequestParam(required = false) Priority priority,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(requestService.getRequestPage(userPrincipal, status, typeId, priority,
+                createdFrom, createdTo, cursor, limit));
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "Request changes",
+            description = "Requests created or changed after the given cursor, filtered by role; omit since for a full sync")
+    public ResponseEntity<RequestChangesResponse> getChanges(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(requestService.getChanges(userPrincipal, since, limit));
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Request events",
+            description = "Server-Sent Events stream of new, updated, decided and commented requests the caller can see")
+    public SseEmitter streamEvents(@AuthenticationPrincipal UserPrincipal userPrincipal) {
+        return requestEventHub.subscribe(userPrincipal);
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search requests",
+            description = "Keyword search over titles, descriptions and comments, best match first")
+    public ResponseEntity<List<RequestResponse>> searchRequests(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(requestService.searchRequests(userPrincipal, q, limit));
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Request counters",
+            description = "Request counts by status, type and priority for the caller's scope")
+    public ResponseEntity<RequestStatsResponse> getRequestStats(@AuthenticationPrincipal UserPrincipal userPrincipal) {
+        return ResponseEntity.ok(requestService.getRequestStats(userPrincipal));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export requests",
+            description = "Stream every request joined with its audit events as NDJSON or CSV (admin only)")
+    public ResponseEntity<StreamingResponseBody> exportRequests(
+            @RequestParam(defaultValue = "NDJSON") RequestExportService.Format format) {
+        MediaType mediaType = format == RequestExportService.Format.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.parseMediaType("application/x-ndjson");
+        String filename = "requests." + format.name().toLowerCase();
+
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(out -> requestExportService.export(format, out));
+    }
+
+    @PostMapping("/read-model/rebuild")
+    @Operation(summary = "Rebuild list read model",
+            description = "Regenerate request_list_view from the request tables (admin only)")
+    public ResponseEntity<ReadModelRebuildResponse> rebuildReadModel() {
+        return ResponseEntity.ok(ReadModelRebuildResponse.builder()
+                .rows(requestService.rebuildReadModel())
+                .build());
     }
 
     @PostMapping
@@ -43,11 +152,45 @@ public class RequestController {
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Get request detail", description = "Get request detail with comments and audit events")
-    public ResponseEntity<RequestDetailResponse> getRequestDetail(
+    @Operation(summary = "Get request detail",
+            description = "Get request detail with the latest comments and audit events; answers If-None-Match "
+                    + "with 304 when nothing changed")
+    public ResponseEntity<byte[]> getRequestDetail(
             @PathVariable Long id,
-            @AuthenticationPrincipal UserPrincipal userPrincipal) {
-        return ResponseEntity.ok(requestService.getRequestDetail(id, userPrincipal));
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            WebRequest webRequest) {
+        // Pre-rendered RequestDetailResponse JSON
+        RequestDetailCache.Entry detail = requestService.getRequestDetailJson(id, userPrincipal);
+        if (webRequest.checkNotModified(detail.version())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(detail.version())
+                .cacheControl(REVALIDATE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(detail.json());
+    }
+
+    @GetMapping("/{id}/comments")
+    @Operation(summary = "Request comments",
+            description = "Comments on a request, newest first; pass nextCursor back as cursor for older ones")
+    public ResponseEntity<CommentPageResponse> getComments(
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(requestService.getComments(id, userPrincipal, cursor, limit));
+    }
+
+    @GetMapping("/{id}/audit-events")
+    @Operation(summary = "Request audit events",
+            description = "Audit trail of a request, newest first; pass nextCursor back as cursor for older events")
+    public ResponseEntity<AuditEventPageResponse> getAuditEvents(
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(requestService.getAuditEvents(id, userPrincipal, cursor, limit));
     }
 
     @PutMapping("/{id}")
@@ -88,6 +231,24 @@ public class RequestController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/bulk/approve")
+    @Operation(summary = "Bulk approve requests",
+            description = "Approve many requests with one shared comment (manager only); returns a result per id")
+    public ResponseEntity<BulkDecisionResponse> bulkApprove(
+            @Valid @RequestBody BulkDecisionRequest request,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        return ResponseEntity.ok(requestService.bulkApprove(request, userPrincipal));
+    }
+
+    @PostMapping("/bulk/reject")
+    @Operation(summary = "Bulk reject requests",
+            description = "Reject many requests with one shared comment (manager only); returns a result per id")
+    public ResponseEntity<BulkDecisionResponse> bulkReject(
+            @Valid @RequestBody BulkDecisionRequest request,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        return ResponseEntity.ok(requestService.bulkReject(request, userPrincipal));
+    }
+
     @PostMapping("/{id}/status")
     @Operation(summary = "Change status", description = "Change status (admin only: APPROVED→IN_PROGRESS→DONE)")
     public ResponseEntity<Void> changeStatus(
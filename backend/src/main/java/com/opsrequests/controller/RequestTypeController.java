@@ -3,16 +3,17 @@ package com.opsrequests.controller;
 import com.opsrequests.dto.request.CreateRequestTypeRequest;
 import com.opsrequests.dto.request.UpdateRequestTypeRequest;
 import com.opsrequests.dto.response.RequestTypeResponse;
+import com.opsrequests.service.RequestTypeCatalog;
 import com.opsrequests.service.RequestTypeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/request-types")
 @RequiredArgsConstructor
@@ -23,8 +24,14 @@ public class RequestTypeController {
 
     @GetMapping
     @Operation(summary = "List active request types", description = "Get all active request types")
-    public ResponseEntity<List<RequestTypeResponse>> getActiveRequestTypes() {
-        return ResponseEntity.ok(requestTypeService.getActiveRequestTypes());
+    public ResponseEntity<byte[]> getActiveRequestTypes() {
+        RequestTypeCatalog.Snapshot catalog = requestTypeService.getActiveRequestTypeCatalog();
+        // A matching If-None-Match is answered with 304 by Spring from the ETag alone
+        return ResponseEntity.ok()
+                .eTag(catalog.etag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(catalog.json());
     }
 
     @PostMapping
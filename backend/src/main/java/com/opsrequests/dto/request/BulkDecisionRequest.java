@@ -0,0 +1,20 @@
+package com.opsrequests.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkDecisionRequest {
+
+    @NotEmpty(message = "Request IDs are required")
+    @Size(max = 500, message = "At most 500 requests can be decided at once")
+    private List<@NotNull Long> ids;
+
+    @NotBlank(message = "Comment is required")
+    private String comment;
+}
@@ -0,0 +1,14 @@
+package com.opsrequests.dto.request;
+
+import com.opsrequests.entity.User;
+import lombok.Data;
+
+@Data
+public class UpdateUserRequest {
+
+    private User.Role role;
+
+    private Long managerId;
+
+    private Boolean active;
+}
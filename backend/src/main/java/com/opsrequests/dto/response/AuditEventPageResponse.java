@@ -0,0 +1,19 @@
+package com.opsrequests.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditEventPageResponse {
+
+    /** Newest first. */
+    private List<AuditEventResponse> items;
+    private String nextCursor;
+}
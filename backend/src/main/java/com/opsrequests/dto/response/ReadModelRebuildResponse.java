@@ -0,0 +1,15 @@
+package com.opsrequests.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadModelRebuildResponse {
+
+    private int rows;
+}
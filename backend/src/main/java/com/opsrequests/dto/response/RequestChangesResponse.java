@@ -0,0 +1,21 @@
+package com.opsrequests.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestChangesResponse {
+
+    /** Requests changed since the cursor passed in, oldest change first, each in its current state. */
+    private List<RequestResponse> items;
+    /** Pass as {@code since} on the next call; unchanged when nothing new has settled. */
+    private String cursor;
+    private boolean hasMore;
+}
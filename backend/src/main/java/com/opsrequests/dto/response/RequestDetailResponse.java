@@ -28,6 +28,14 @@ public class RequestDetailResponse {
     private Status status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    /** The latest comments, oldest of them first; older ones are paged from {@code commentsCursor}. */
     private List<CommentResponse> comments;
+    private long commentCount;
+    /** Pass as {@code cursor} to {@code /api/requests/{id}/comments}; null when every comment is embedded. */
+    private String commentsCursor;
+    /** The latest audit events, oldest of them first; older ones are paged from {@code auditEventsCursor}. */
     private List<AuditEventResponse> auditEvents;
+    private long auditEventCount;
+    /** Pass as {@code cursor} to {@code /api/requests/{id}/audit-events}; null when every event is embedded. */
+    private String auditEventsCursor;
 }
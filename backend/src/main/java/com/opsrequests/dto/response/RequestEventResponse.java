@@ -0,0 +1,33 @@
+package com.opsrequests.dto.response;
+
+import com.opsrequests.entity.Request.Status;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A change pushed on {@code /api/requests/events}. It only names the request; clients fetch the
+ * detail or the change feed for the current state.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestEventResponse {
+
+    private Type type;
+    private Long requestId;
+    private Status status;
+    private Long actorId;
+    private LocalDateTime occurredAt;
+
+    public enum Type {
+        REQUEST_ASSIGNED,
+        REQUEST_UPDATED,
+        STATUS_CHANGED,
+        COMMENT_ADDED
+    }
+}
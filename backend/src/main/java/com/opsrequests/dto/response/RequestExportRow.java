@@ -0,0 +1,39 @@
+package com.opsrequests.dto.response;
+
+import com.opsrequests.entity.Request.Priority;
+import com.opsrequests.entity.Request.Status;
+import com.opsrequests.entity.RequestAuditEvent.EventType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One request joined with one of its audit events. Requests without audit events export a single
+ * row with empty event columns.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestExportRow {
+
+    private Long requestId;
+    private String title;
+    private String typeCode;
+    private String requesterEmail;
+    private String managerEmail;
+    private BigDecimal amount;
+    private Priority priority;
+    private Status status;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long eventId;
+    private EventType eventType;
+    private String fromStatus;
+    private String toStatus;
+    private String note;
+    private String actorEmail;
+    private LocalDateTime eventCreatedAt;
+}
@@ -0,0 +1,22 @@
+package com.opsrequests.dto.response;
+
+import com.opsrequests.entity.Request.Priority;
+import com.opsrequests.entity.Request.Status;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestStatsResponse {
+
+    private long total;
+    private Map<Status, Long> byStatus;
+    private Map<Long, Long> byType;
+    private Map<Priority, Long> byPriority;
+}
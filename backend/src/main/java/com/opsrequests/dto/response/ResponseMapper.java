@@ -0,0 +1,125 @@
+package com.opsrequests.dto.response;
+
+import com.opsrequests.entity.Request;
+import com.opsrequests.entity.RequestAuditEvent;
+import com.opsrequests.entity.RequestComment;
+import com.opsrequests.entity.RequestListView;
+import com.opsrequests.entity.RequestType;
+import com.opsrequests.entity.User;
+
+/**
+ * Entity to response mapping shared by the JPA read path and the request write paths.
+ */
+public final class ResponseMapper {
+
+    private ResponseMapper() {
+    }
+
+    public static RequestResponse toRequestResponse(Request request) {
+        return RequestResponse.builder()
+                .id(request.getId())
+                .requester(toUserResponse(request.getRequester()))
+                .manager(request.getManager() != null ? toUserResponse(request.getManager()) : null)
+                .type(toRequestTypeResponse(request.getType()))
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .amount(request.getAmount())
+                .priority(request.getPriority())
+                .status(request.getStatus())
+                .createdAt(request.getCreatedAt())
+                .updatedAt(request.getUpdatedAt())
+                .build();
+    }
+
+    public static RequestResponse toRequestResponse(RequestListView view) {
+        return RequestResponse.builder()
+                .id(view.getId())
+                .requester(UserResponse.builder()
+                        .id(view.getRequesterId())
+                        .email(view.getRequesterEmail())
+                        .role(view.getRequesterRole())
+                        .managerId(view.getRequesterManagerId())
+                        .active(view.getRequesterActive())
+                        .createdAt(view.getRequesterCreatedAt())
+                        .build())
+                .manager(view.getManagerId() != null ? UserResponse.builder()
+                        .id(view.getManagerId())
+                        .email(view.getManagerEmail())
+                        .role(view.getManagerRole())
+                        .managerId(view.getManagerManagerId())
+                        .active(view.getManagerActive())
+                        .createdAt(view.getManagerCreatedAt())
+                        .build() : null)
+                .type(RequestTypeResponse.builder()
+                        .id(view.getTypeId())
+                        .code(view.getTypeCode())
+                        .name(view.getTypeName())
+                        .active(view.getTypeActive())
+                        .build())
+                .title(view.getTitle())
+                .description(view.getDescription())
+                .amount(view.getAmount())
+                .priority(view.getPriority())
+                .status(view.getStatus())
+                .createdAt(view.getCreatedAt())
+                .updatedAt(view.getUpdatedAt())
+                .build();
+    }
+
+    public static RequestDetailResponse toRequestDetailResponse(Request request) {
+        return RequestDetailResponse.builder()
+                .id(request.getId())
+                .requester(toUserResponse(request.getRequester()))
+                .manager(request.getManager() != null ? toUserResponse(request.getManager()) : null)
+                .type(toRequestTypeResponse(request.getType()))
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .amount(request.getAmount())
+                .priority(request.getPriority())
+                .status(request.getStatus())
+                .createdAt(request.getCreatedAt())
+                .updatedAt(request.getUpdatedAt())
+                .build();
+    }
+
+    public static UserResponse toUserResponse(User user) {
+        return UserResponse.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .role(user.getRole())
+                .managerId(user.getManagerId())
+                .active(user.getActive())
+                .createdAt(user.getCreatedAt())
+                .build();
+    }
+
+    public static RequestTypeResponse toRequestTypeResponse(RequestType requestType) {
+        return RequestTypeResponse.builder()
+                .id(requestType.getId())
+                .code(requestType.getCode())
+                .name(requestType.getName())
+                .active(requestType.getActive())
+                .build();
+    }
+
+    public static CommentResponse toCommentResponse(RequestComment comment) {
+        return CommentResponse.builder()
+                .id(comment.getId())
+                .author(toUserResponse(comment.getAuthor()))
+                .comment(comment.getComment())
+                .createdAt(comment.getCreatedAt())
+                .build();
+    }
+
+    public static AuditEventResponse toAuditEventResponse(RequestAuditEvent event) {
+        return AuditEventResponse.builder()
+                .id(event.getId())
+                .actor(toUserResponse(event.getActor()))
+                .eventType(event.getEventType())
+                .fromStatus(event.getFromStatus())
+                .toStatus(event.getToStatus())
+                .note(event.getNote())
+                .createdAt(event.getCreatedAt())
+                .build();
+    }
+}
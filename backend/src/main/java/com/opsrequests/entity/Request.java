@@ -6,13 +6,20 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 
 @Entity
 @Table(name = "requests")
+@NamedEntityGraph(name = Request.GRAPH_WITH_PARTIES, attributeNodes = {
+        @NamedAttributeNode("requester"),
+        @NamedAttributeNode("manager"),
+        @NamedAttributeNode("type")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,8 +27,14 @@ import java.util.Objects;
 @Builder
 public class Request {
 
+    /** Loads requester, manager and type with the request so response mapping needs no extra selects. */
+    public static final String GRAPH_WITH_PARTIES = "Request.withParties";
+
+    public static final String CHANGE_SEQUENCE = "request_change_seq";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "requests_id_seq")
+    @SequenceGenerator(name = "requests_id_seq", sequenceName = "requests_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -59,15 +72,34 @@ public class Request {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    /** Bumped by every write, including the conditional status updates that bypass dirty checking. */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * Position of the request's latest change in the change feed, drawn from
+     * {@value #CHANGE_SEQUENCE} by the database on insert and by every update statement.
+     */
+    @ColumnDefault("nextval('" + CHANGE_SEQUENCE + "')")
+    @Column(name = "change_seq", nullable = false, insertable = false, updatable = false)
+    private Long changeSeq;
+
+    /** When {@link #changeSeq} was last drawn. */
+    @Column(name = "changed_at", nullable = false, updatable = false)
+    private LocalDateTime changedAt;
+
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
+        // Truncate to the column precision so in-memory values match what keyset cursors read back
+        createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        updatedAt = createdAt;
+        changedAt = createdAt;
     }
 
     @PreUpdate
     protected void onUpdate() {
-        updatedAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 
     public enum Priority {
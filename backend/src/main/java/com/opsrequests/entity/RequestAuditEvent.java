@@ -20,7 +20,8 @@ import java.util.Objects;
 public class RequestAuditEvent {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "request_audit_events_id_seq")
+    @SequenceGenerator(name = "request_audit_events_id_seq", sequenceName = "request_audit_events_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -49,7 +50,10 @@ public class RequestAuditEvent {
 
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
+        // Events drained from the outbox keep the time they were captured
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
     }
 
     public enum EventType {
@@ -20,7 +20,8 @@ import java.util.Objects;
 public class RequestComment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "request_comments_id_seq")
+    @SequenceGenerator(name = "request_comments_id_seq", sequenceName = "request_comments_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,116 @@
+package com.opsrequests.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Denormalized read model holding everything a request list row renders, so listings are served
+ * from one table without joins. Maintained by {@code RequestReadModelService}.
+ */
+@Entity
+@Table(name = "request_list_view")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RequestListView {
+
+    @Id
+    @Column(name = "request_id")
+    private Long id;
+
+    @Column(name = "requester_id", nullable = false)
+    private Long requesterId;
+
+    @Column(name = "requester_email", nullable = false)
+    private String requesterEmail;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "requester_role", nullable = false)
+    private User.Role requesterRole;
+
+    @Column(name = "requester_manager_id")
+    private Long requesterManagerId;
+
+    @Column(name = "requester_active", nullable = false)
+    private Boolean requesterActive;
+
+    @Column(name = "requester_created_at", nullable = false)
+    private LocalDateTime requesterCreatedAt;
+
+    @Column(name = "manager_id")
+    private Long managerId;
+
+    @Column(name = "manager_email")
+    private String managerEmail;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "manager_role")
+    private User.Role managerRole;
+
+    @Column(name = "manager_manager_id")
+    private Long managerManagerId;
+
+    @Column(name = "manager_active")
+    private Boolean managerActive;
+
+    @Column(name = "manager_created_at")
+    private LocalDateTime managerCreatedAt;
+
+    @Column(name = "type_id", nullable = false)
+    private Long typeId;
+
+    @Column(name = "type_code", nullable = false)
+    private String typeCode;
+
+    @Column(name = "type_name", nullable = false)
+    private String typeName;
+
+    @Column(name = "type_active", nullable = false)
+    private Boolean typeActive;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Request.Priority priority;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Request.Status status;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RequestListView that = (RequestListView) o;
+        return id != null && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
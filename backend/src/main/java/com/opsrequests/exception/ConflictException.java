@@ -0,0 +1,19 @@
+package com.opsrequests.exception;
+
+import com.opsrequests.dto.response.RequestResponse;
+import lombok.Getter;
+
+@Getter
+public class ConflictException extends RuntimeException {
+
+    private final RequestResponse current;
+
+    public ConflictException(String message) {
+        this(message, null);
+    }
+
+    public ConflictException(String message, RequestResponse current) {
+        super(message);
+        this.current = current;
+    }
+}
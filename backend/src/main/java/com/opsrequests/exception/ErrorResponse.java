@@ -1,5 +1,7 @@
 package com.opsrequests.exception;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.opsrequests.dto.response.RequestResponse;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -18,4 +20,8 @@ public class ErrorResponse {
     private String errorCode;
     private String message;
     private String path;
+
+    /** The request as it is now, on conflicts caused by a concurrent change. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private RequestResponse current;
 }
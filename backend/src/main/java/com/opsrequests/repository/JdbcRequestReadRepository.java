@@ -0,0 +1,241 @@
+package com.opsrequests.repository;
+
+import com.opsrequests.dto.response.AuditEventResponse;
+import com.opsrequests.dto.response.CommentResponse;
+import com.opsrequests.dto.response.RequestDetailResponse;
+import com.opsrequests.dto.response.RequestResponse;
+import com.opsrequests.dto.response.RequestTypeResponse;
+import com.opsrequests.dto.response.UserResponse;
+import com.opsrequests.entity.Request.Priority;
+import com.opsrequests.entity.Request.Status;
+import com.opsrequests.entity.RequestAuditEvent.EventType;
+import com.opsrequests.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Maps joined rows straight into response DTOs, skipping entity hydration and the persistence
+ * context snapshots JPA keeps for dirty checking.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "requests.read-path", havingValue = "jdbc")
+public class JdbcRequestReadRepository implements RequestReadRepository {
+
+    private static final String USER_COLUMNS =
+            "%1$s.id AS %1$s_id, %1$s.email AS %1$s_email, %1$s.role AS %1$s_role, "
+                    + "%1$s.manager_id AS %1$s_manager_id, %1$s.active AS %1$s_active, "
+                    + "%1$s.created_at AS %1$s_created_at";
+
+    private static final String REQUEST_SELECT = "SELECT r.id, r.title, r.description, r.amount, r.priority, "
+            + "r.status, r.created_at, r.updated_at, "
+            + USER_COLUMNS.formatted("rq") + ", " + USER_COLUMNS.formatted("mg") + ", "
+            + "t.id AS t_id, t.code AS t_code, t.name AS t_name, t.active AS t_active "
+            + "FROM requests r "
+            + "JOIN users rq ON rq.id = r.requester_id "
+            + "LEFT JOIN users mg ON mg.id = r.manager_id "
+            + "JOIN request_types t ON t.id = r.type_id";
+
+    private static final String COMMENT_SELECT = "SELECT c.id, c.comment, c.created_at, "
+            + USER_COLUMNS.formatted("au") + " "
+            + "FROM request_comments c JOIN users au ON au.id = c.author_id "
+            + "WHERE c.request_id = :requestId";
+
+    private static final String AUDIT_EVENT_SELECT = "SELECT e.id, e.event_type, e.from_status, e.to_status, "
+            + "e.note, e.created_at, " + USER_COLUMNS.formatted("ac") + " "
+            + "FROM request_audit_events e JOIN users ac ON ac.id = e.actor_id "
+            + "WHERE e.request_id = :requestId";
+
+    private static final RowMapper<RequestResponse> REQUEST_ROW_MAPPER = (rs, rowNum) -> RequestResponse.builder()
+            .id(rs.getLong("id"))
+            .requester(mapUser(rs, "rq"))
+            .manager(mapUser(rs, "mg"))
+            .type(RequestTypeResponse.builder()
+                    .id(rs.getLong("t_id"))
+                    .code(rs.getString("t_code"))
+                    .name(rs.getString("t_name"))
+                    .active(rs.getBoolean("t_active"))
+                    .build())
+            .title(rs.getString("title"))
+            .description(rs.getString("description"))
+            .amount(rs.getBigDecimal("amount"))
+            .priority(Priority.valueOf(rs.getString("priority")))
+            .status(Status.valueOf(rs.getString("status")))
+            .createdAt(rs.getObject("created_at", LocalDateTime.class))
+            .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+            .build();
+
+    private static final RowMapper<CommentResponse> COMMENT_ROW_MAPPER = (rs, rowNum) -> CommentResponse.builder()
+            .id(rs.getLong("id"))
+            .author(mapUser(rs, "au"))
+            .comment(rs.getString("comment"))
+            .createdAt(rs.getObject("created_at", LocalDateTime.class))
+            .build();
+
+    private static final RowMapper<AuditEventResponse> AUDIT_EVENT_ROW_MAPPER = (rs, rowNum) ->
+            AuditEventResponse.builder()
+                    .id(rs.getLong("id"))
+                    .actor(mapUser(rs, "ac"))
+                    .eventType(EventType.valueOf(rs.getString("event_type")))
+                    .fromStatus(rs.getString("from_status"))
+                    .toStatus(rs.getString("to_status"))
+                    .note(rs.getString("note"))
+                    .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                    .build();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<RequestResponse> findRequests(RequestFilter filter) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        List<String> predicates = new ArrayList<>();
+
+        if (filter.getIds() != null) {
+            predicates.add("r.id IN (:ids)");
+            params.addValue("ids", filter.getIds());
+        }
+        if (filter.getRequesterId() != null) {
+            predicates.add("r.requester_id = :requesterId");
+            params.addValue("requesterId", filter.getRequesterId());
+        }
+        if (filter.getManagerId() != null) {
+            predicates.add("r.manager_id = :managerId");
+            params.addValue("managerId", filter.getManagerId());
+        }
+        if (filter.getParticipantId() != null) {
+            predicates.add("(r.requester_id = :participantId OR r.manager_id = :participantId)");
+            params.addValue("participantId", filter.getParticipantId());
+        }
+        if (filter.getStatus() != null) {
+            predicates.add("r.status = :status");
+            params.addValue("status", filter.getStatus().name());
+        }
+        if (filter.getTypeId() != null) {
+            predicates.add("r.type_id = :typeId");
+            params.addValue("typeId", filter.getTypeId());
+        }
+        if (filter.getPriority() != null) {
+            predicates.add("r.priority = :priority");
+            params.addValue("priority", filter.getPriority().name());
+        }
+        if (filter.getCreatedFrom() != null) {
+            predicates.add("r.created_at >= :createdFrom");
+            params.addValue("createdFrom", filter.getCreatedFrom());
+        }
+        if (filter.getCreatedTo() != null) {
+            predicates.add("r.created_at < :createdTo");
+            params.addValue("createdTo", filter.getCreatedTo());
+        }
+        if (filter.getAfterCreatedAt() != null && filter.getAfterId() != null) {
+            predicates.add("(r.created_at < :afterCreatedAt OR (r.created_at = :afterCreatedAt AND r.id < :afterId))");
+            params.addValue("afterCreatedAt", filter.getAfterCreatedAt());
+            params.addValue("afterId", filter.getAfterId());
+        }
+
+        StringBuilder sql = new StringBuilder(REQUEST_SELECT);
+        if (!predicates.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", predicates));
+        }
+        sql.append(" ORDER BY r.created_at DESC, r.id DESC");
+        if (filter.getLimit() != null) {
+            sql.append(" LIMIT :limit");
+            params.addValue("limit", filter.getLimit());
+        }
+
+        return jdbcTemplate.query(sql.toString(), params, REQUEST_ROW_MAPPER);
+    }
+
+    @Override
+    public Optional<RequestDetailResponse> findRequestDetail(Long id, RequestFilter scope) {
+        List<RequestResponse> rows = findRequests(scope.toBuilder().ids(List.of(id)).build());
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        RequestResponse request = rows.get(0);
+        return Optional.of(RequestDetailResponse.builder()
+                .id(request.getId())
+                .requester(request.getRequester())
+                .manager(request.getManager())
+                .type(request.getType())
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .amount(request.getAmount())
+                .priority(request.getPriority())
+                .status(request.getStatus())
+                .createdAt(request.getCreatedAt())
+                .updatedAt(request.getUpdatedAt())
+                .build());
+    }
+
+    @Override
+    public List<CommentResponse> findComments(Long requestId, LocalDateTime beforeCreatedAt, Long beforeId,
+                                              int limit) {
+        MapSqlParameterSource params = timelineParams(requestId, beforeCreatedAt, beforeId, limit);
+        return jdbcTemplate.query(timelineSql(COMMENT_SELECT, "c", beforeCreatedAt), params, COMMENT_ROW_MAPPER);
+    }
+
+    @Override
+    public List<AuditEventResponse> findAuditEvents(Long requestId, LocalDateTime beforeCreatedAt, Long beforeId,
+                                                    int limit) {
+        MapSqlParameterSource params = timelineParams(requestId, beforeCreatedAt, beforeId, limit);
+        return jdbcTemplate.query(timelineSql(AUDIT_EVENT_SELECT, "e", beforeCreatedAt), params,
+                AUDIT_EVENT_ROW_MAPPER);
+    }
+
+    @Override
+    public long countComments(Long requestId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM request_comments WHERE request_id = :requestId",
+                new MapSqlParameterSource("requestId", requestId), Long.class);
+    }
+
+    @Override
+    public long countAuditEvents(Long requestId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM request_audit_events WHERE request_id = :requestId",
+                new MapSqlParameterSource("requestId", requestId), Long.class);
+    }
+
+    private static String timelineSql(String select, String alias, LocalDateTime beforeCreatedAt) {
+        StringBuilder sql = new StringBuilder(select);
+        if (beforeCreatedAt != null) {
+            sql.append((" AND (%1$s.created_at < :beforeCreatedAt "
+                    + "OR (%1$s.created_at = :beforeCreatedAt AND %1$s.id < :beforeId))").formatted(alias));
+        }
+        sql.append(" ORDER BY %1$s.created_at DESC, %1$s.id DESC LIMIT :limit".formatted(alias));
+        return sql.toString();
+    }
+
+    private static MapSqlParameterSource timelineParams(Long requestId, LocalDateTime beforeCreatedAt, Long beforeId,
+                                                        int limit) {
+        return new MapSqlParameterSource("requestId", requestId)
+                .addValue("beforeCreatedAt", beforeCreatedAt)
+                .addValue("beforeId", beforeId)
+                .addValue("limit", limit);
+    }
+
+    private static UserResponse mapUser(ResultSet rs, String alias) throws SQLException {
+        long id = rs.getLong(alias + "_id");
+        if (rs.wasNull()) {
+            return null;
+        }
+        return UserResponse.builder()
+                .id(id)
+                .email(rs.getString(alias + "_email"))
+                .role(User.Role.valueOf(rs.getString(alias + "_role")))
+                .managerId(rs.getObject(alias + "_manager_id", Long.class))
+                .active(rs.getBoolean(alias + "_active"))
+                .createdAt(rs.getObject(alias + "_created_at", LocalDateTime.class))
+                .build();
+    }
+}
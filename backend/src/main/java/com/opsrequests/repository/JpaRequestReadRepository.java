@@ -0,0 +1,89 @@
+package com.opsrequests.repository;
+
+import com.opsrequests.dto.response.AuditEventResponse;
+import com.opsrequests.dto.response.CommentResponse;
+import com.opsrequests.dto.response.RequestDetailResponse;
+import com.opsrequests.dto.response.RequestResponse;
+import com.opsrequests.dto.response.ResponseMapper;
+import com.opsrequests.entity.Request;
+import com.opsrequests.entity.RequestAuditEvent;
+import com.opsrequests.entity.RequestComment;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static com.opsrequests.repository.RequestSpecifications.*;
+
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "requests.read-path", havingValue = "jpa", matchIfMissing = true)
+public class JpaRequestReadRepository implements RequestReadRepository {
+
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    private final RequestRepository requestRepository;
+    private final RequestCommentRepository commentRepository;
+    private final RequestAuditEventRepository auditEventRepository;
+
+    @Override
+    public List<RequestResponse> findRequests(RequestFilter filter) {
+        Specification<Request> spec = matching(filter);
+        List<Request> rows = filter.getLimit() == null
+                ? requestRepository.findAll(spec, KEYSET_SORT)
+                : requestRepository.findBy(spec, q -> q.sortBy(KEYSET_SORT)
+                        .project("requester", "manager", "type")
+                        .limit(filter.getLimit())
+                        .all());
+
+        return rows.stream()
+                .map(ResponseMapper::toRequestResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<RequestDetailResponse> findRequestDetail(Long id, RequestFilter scope) {
+        Specification<Request> spec = matching(scope.toBuilder().ids(List.of(id)).build());
+        return requestRepository.findBy(spec, q -> q.project("requester", "manager", "type").first())
+                .map(ResponseMapper::toRequestDetailResponse);
+    }
+
+    @Override
+    public List<CommentResponse> findComments(Long requestId, LocalDateTime beforeCreatedAt, Long beforeId,
+                                              int limit) {
+        List<RequestComment> rows = beforeCreatedAt == null
+                ? commentRepository.findLatest(requestId, Limit.of(limit))
+                : commentRepository.findOlder(requestId, beforeCreatedAt, beforeId, Limit.of(limit));
+        return rows.stream()
+                .map(ResponseMapper::toCommentResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<AuditEventResponse> findAuditEvents(Long requestId, LocalDateTime beforeCreatedAt, Long beforeId,
+                                                    int limit) {
+        List<RequestAuditEvent> rows = beforeCreatedAt == null
+                ? auditEventRepository.findLatest(requestId, Limit.of(limit))
+                : auditEventRepository.findOlder(requestId, beforeCreatedAt, beforeId, Limit.of(limit));
+        return rows.stream()
+                .map(ResponseMapper::toAuditEventResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long countComments(Long requestId) {
+        return commentRepository.countByRequestId(requestId);
+    }
+
+    @Override
+    public long countAuditEvents(Long requestId) {
+        return auditEventRepository.countByRequestId(requestId);
+    }
+}
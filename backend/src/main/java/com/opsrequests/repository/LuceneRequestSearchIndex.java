@@ -0,0 +1,188 @@
+package com.opsrequests.repository;
+
+import com.opsrequests.entity.Request;
+import com.opsrequests.entity.RequestComment;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-process fallback for databases without {@code tsvector} (the H2 test profile). Holds one
+ * document per request in memory, built from the tables at startup and updated as requests and
+ * comments are written. Writes are applied immediately, so rows from rolled-back transactions can
+ * linger; callers load the hits back from the database, which drops them.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "requests.search.engine", havingValue = "lucene")
+public class LuceneRequestSearchIndex implements RequestSearchIndex {
+
+    // Same relative weighting as the A/B/C weights of the Postgres search vector
+    private static final Map<String, Float> FIELD_WEIGHTS = Map.of("title", 3f, "description", 2f, "comment", 1f);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final Analyzer analyzer = new EnglishAnalyzer();
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    @PostConstruct
+    public void rebuild() throws IOException {
+        writer = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(analyzer));
+        searcherManager = new SearcherManager(writer, null);
+
+        Map<Long, List<String>> comments = new HashMap<>();
+        jdbcTemplate.query("SELECT request_id, comment FROM request_comments ORDER BY id", rs -> {
+            comments.computeIfAbsent(rs.getLong("request_id"), id -> new ArrayList<>()).add(rs.getString("comment"));
+        });
+        List<Document> documents = jdbcTemplate.query("SELECT id, requester_id, manager_id, title, description "
+                + "FROM requests", (rs, rowNum) -> document(rs.getLong("id"), rs.getLong("requester_id"),
+                rs.getObject("manager_id", Long.class), rs.getString("title"), rs.getString("description"),
+                comments.getOrDefault(rs.getLong("id"), List.of())));
+        writer.addDocuments(documents);
+        searcherManager.maybeRefreshBlocking();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+    }
+
+    @Override
+    public List<Long> search(String query, RequestFilter scope, int limit) {
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, FIELD_WEIGHTS);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        Query text = parser.parse(query);
+        if (text == null) {
+            // Query consisted only of stop words or operators
+            return List.of();
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder().add(text, BooleanClause.Occur.MUST);
+        if (scope.getRequesterId() != null) {
+            builder.add(new TermQuery(new Term("requesterId", scope.getRequesterId().toString())),
+                    BooleanClause.Occur.FILTER);
+        }
+        if (scope.getManagerId() != null) {
+            builder.add(new TermQuery(new Term("managerId", scope.getManagerId().toString())),
+                    BooleanClause.Occur.FILTER);
+        }
+        if (scope.getParticipantId() != null) {
+            String participantId = scope.getParticipantId().toString();
+            builder.add(new BooleanQuery.Builder()
+                            .add(new TermQuery(new Term("requesterId", participantId)), BooleanClause.Occur.SHOULD)
+                            .add(new TermQuery(new Term("managerId", participantId)), BooleanClause.Occur.SHOULD)
+                            .build(),
+                    BooleanClause.Occur.FILTER);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs top = searcher.search(builder.build(), limit);
+                List<Long> ids = new ArrayList<>(top.scoreDocs.length);
+                for (ScoreDoc hit : top.scoreDocs) {
+                    ids.add(Long.valueOf(searcher.storedFields().document(hit.doc).get("id")));
+                }
+                return ids;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void indexRequest(Request request) {
+        try {
+            write(request, storedComments(request.getId()));
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void indexComment(RequestComment comment) {
+        try {
+            List<String> comments = storedComments(comment.getRequest().getId());
+            comments.add(comment.getComment());
+            write(comment.getRequest(), comments);
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<String> storedComments(Long requestId) throws IOException {
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            TopDocs top = searcher.search(new TermQuery(new Term("id", requestId.toString())), 1);
+            List<String> comments = new ArrayList<>();
+            if (top.scoreDocs.length > 0) {
+                for (IndexableField field : searcher.storedFields().document(top.scoreDocs[0].doc).getFields("comment")) {
+                    comments.add(field.stringValue());
+                }
+            }
+            return comments;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    private void write(Request request, List<String> comments) throws IOException {
+        writer.updateDocument(new Term("id", request.getId().toString()), document(request.getId(),
+                request.getRequester().getId(), request.getManager() != null ? request.getManager().getId() : null,
+                request.getTitle(), request.getDescription(), comments));
+    }
+
+    private static Document document(Long id, Long requesterId, Long managerId, String title, String description,
+                                     List<String> comments) {
+        Document doc = new Document();
+        doc.add(new StringField("id", id.toString(), Field.Store.YES));
+        doc.add(new StringField("requesterId", requesterId.toString(), Field.Store.NO));
+        if (managerId != null) {
+            doc.add(new StringField("managerId", managerId.toString(), Field.Store.NO));
+        }
+        doc.add(new TextField("title", title, Field.Store.NO));
+        if (description != null) {
+            doc.add(new TextField("description", description, Field.Store.NO));
+        }
+        for (String comment : comments) {
+            doc.add(new TextField("comment", comment, Field.Store.YES));
+        }
+        return doc;
+    }
+}
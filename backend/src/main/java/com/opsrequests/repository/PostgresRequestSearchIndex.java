@@ -0,0 +1,56 @@
+package com.opsrequests.repository;
+
+import com.opsrequests.entity.Request;
+import com.opsrequests.entity.RequestComment;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Ranks requests with {@code ts_rank} over {@code requests.search_vector}. The vector and its GIN
+ * index are maintained by database triggers (V5 migration), so the index callbacks are no-ops.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "requests.search.engine", havingValue = "postgres", matchIfMissing = true)
+public class PostgresRequestSearchIndex implements RequestSearchIndex {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> search(String query, RequestFilter scope, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("limit", limit);
+
+        StringBuilder sql = new StringBuilder("SELECT r.id FROM requests r, websearch_to_tsquery('english', :query) q "
+                + "WHERE r.search_vector @@ q");
+        if (scope.getRequesterId() != null) {
+            sql.append(" AND r.requester_id = :requesterId");
+            params.addValue("requesterId", scope.getRequesterId());
+        }
+        if (scope.getManagerId() != null) {
+            sql.append(" AND r.manager_id = :managerId");
+            params.addValue("managerId", scope.getManagerId());
+        }
+        if (scope.getParticipantId() != null) {
+            sql.append(" AND (r.requester_id = :participantId OR r.manager_id = :participantId)");
+            params.addValue("participantId", scope.getParticipantId());
+        }
+        sql.append(" ORDER BY ts_rank(r.search_vector, q) DESC, r.id DESC LIMIT :limit");
+
+        return jdbcTemplate.queryForList(sql.toString(), params, Long.class);
+    }
+
+    @Override
+    public void indexRequest(Request request) {
+    }
+
+    @Override
+    public void indexComment(RequestComment comment) {
+    }
+}
@@ -0,0 +1,102 @@
+package com.opsrequests.repository;
+
+import com.opsrequests.dto.response.AuditEventResponse;
+import com.opsrequests.dto.response.CommentResponse;
+import com.opsrequests.dto.response.RequestDetailResponse;
+import com.opsrequests.dto.response.RequestResponse;
+import com.opsrequests.dto.response.ResponseMapper;
+import com.opsrequests.entity.RequestAuditEvent;
+import com.opsrequests.entity.RequestComment;
+import com.opsrequests.entity.RequestListView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static com.opsrequests.repository.RequestListViewSpecifications.matching;
+
+/**
+ * Serves listings from the {@code request_list_view} read model with a single-table scan.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "requests.read-path", havingValue = "view")
+public class ReadModelRequestReadRepository implements RequestReadRepository {
+
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    private final RequestListViewRepository requestListViewRepository;
+    private final RequestCommentRepository commentRepository;
+    private final RequestAuditEventRepository auditEventRepository;
+
+    @Override
+    public List<RequestResponse> findRequests(RequestFilter filter) {
+        Specification<RequestListView> spec = matching(filter);
+        List<RequestListView> rows = filter.getLimit() == null
+                ? requestListViewRepository.findAll(spec, KEYSET_SORT)
+                : requestListViewRepository.findBy(spec, q -> q.sortBy(KEYSET_SORT).limit(filter.getLimit()).all());
+
+        return rows.stream()
+                .map(ResponseMapper::toRequestResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<RequestDetailResponse> findRequestDetail(Long id, RequestFilter scope) {
+        return requestListViewRepository.findOne(matching(scope.toBuilder().ids(List.of(id)).build())).map(view -> {
+            RequestResponse request = ResponseMapper.toRequestResponse(view);
+            return RequestDetailResponse.builder()
+                    .id(request.getId())
+                    .requester(request.getRequester())
+                    .manager(request.getManager())
+                    .type(request.getType())
+                    .title(request.getTitle())
+                    .description(request.getDescription())
+                    .amount(request.getAmount())
+                    .priority(request.getPriority())
+                    .status(request.getStatus())
+                    .createdAt(request.getCreatedAt())
+                    .updatedAt(request.getUpdatedAt())
+                    .build();
+        });
+    }
+
+    @Override
+    public List<CommentResponse> findComments(Long requestId, LocalDateTime beforeCreatedAt, Long beforeId,
+                                              int limit) {
+        List<RequestComment> rows = beforeCreatedAt == null
+                ? commentRepository.findLatest(requestId, Limit.of(limit))
+                : commentRepository.findOlder(requestId, beforeCreatedAt, beforeId, Limit.of(limit));
+        return rows.stream()
+                .map(ResponseMapper::toCommentResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<AuditEventResponse> findAuditEvents(Long requestId, LocalDateTime beforeCreatedAt, Long beforeId,
+                                                    int limit) {
+        List<RequestAuditEvent> rows = beforeCreatedAt == null
+                ? auditEventRepository.findLatest(requestId, Limit.of(limit))
+                : auditEventRepository.findOlder(requestId, beforeCreatedAt, beforeId, Limit.of(limit));
+        return rows.stream()
+                .map(ResponseMapper::toAuditEventResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long countComments(Long requestId) {
+        return commentRepository.countByRequestId(requestId);
+    }
+
+    @Override
+    public long countAuditEvents(Long requestId) {
+        return auditEventRepository.countByRequestId(requestId);
+    }
+}
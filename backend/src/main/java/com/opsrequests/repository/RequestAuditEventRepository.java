@@ -1,13 +1,28 @@
 package com.opsrequests.repository;
 
 import com.opsrequests.entity.RequestAuditEvent;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface RequestAuditEventRepository extends JpaRepository<RequestAuditEvent, Long> {
 
-    List<RequestAuditEvent> findByRequestIdOrderByCreatedAtAsc(Long requestId);
+    @Query("SELECT e FROM RequestAuditEvent e JOIN FETCH e.actor WHERE e.request.id = :requestId "
+            + "ORDER BY e.createdAt DESC, e.id DESC")
+    List<RequestAuditEvent> findLatest(@Param("requestId") Long requestId, Limit limit);
+
+    /** The page after the (createdAt, id) keyset position, newest first. */
+    @Query("SELECT e FROM RequestAuditEvent e JOIN FETCH e.actor WHERE e.request.id = :requestId "
+            + "AND (e.createdAt < :createdAt OR (e.createdAt = :createdAt AND e.id < :id)) "
+            + "ORDER BY e.createdAt DESC, e.id DESC")
+    List<RequestAuditEvent> findOlder(@Param("requestId") Long requestId, @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("id") Long id, Limit limit);
+
+    long countByRequestId(Long requestId);
 }
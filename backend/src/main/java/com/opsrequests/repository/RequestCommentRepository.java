@@ -1,13 +1,28 @@
 package com.opsrequests.repository;
 
 import com.opsrequests.entity.RequestComment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface RequestCommentRepository extends JpaRepository<RequestComment, Long> {
 
-    List<RequestComment> findByRequestIdOrderByCreatedAtAsc(Long requestId);
+    @Query("SELECT c FROM RequestComment c JOIN FETCH c.author WHERE c.request.id = :requestId "
+            + "ORDER BY c.createdAt DESC, c.id DESC")
+    List<RequestComment> findLatest(@Param("requestId") Long requestId, Limit limit);
+
+    /** The page after the (createdAt, id) keyset position, newest first. */
+    @Query("SELECT c FROM RequestComment c JOIN FETCH c.author WHERE c.request.id = :requestId "
+            + "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) "
+            + "ORDER BY c.createdAt DESC, c.id DESC")
+    List<RequestComment> findOlder(@Param("requestId") Long requestId, @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Long id, Limit limit);
+
+    long countByRequestId(Long requestId);
 }
@@ -0,0 +1,19 @@
+package com.opsrequests.repository;
+
+import com.opsrequests.entity.Request.Priority;
+import com.opsrequests.entity.Request.Status;
+
+public interface RequestCountRow {
+
+    Long getRequesterId();
+
+    Long getManagerId();
+
+    Status getStatus();
+
+    Long getTypeId();
+
+    Priority getPriority();
+
+    long getTotal();
+}
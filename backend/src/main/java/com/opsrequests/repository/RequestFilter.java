@@ -0,0 +1,43 @@
+package com.opsrequests.repository;
+
+import com.opsrequests.entity.Request.Priority;
+import com.opsrequests.entity.Request.Status;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Listing criteria understood by every {@link RequestReadRepository} implementation. Null fields
+ * are not filtered on; a null limit returns every matching row. Non-null {@code ids} must not be
+ * empty.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class RequestFilter {
+
+    private final Collection<Long> ids;
+    private final Long requesterId;
+    private final Long managerId;
+    /** Matches requests the user either submitted or is the assigned manager of. */
+    private final Long participantId;
+    private final Status status;
+    private final Long typeId;
+    private final Priority priority;
+    private final LocalDateTime createdFrom;
+    private final LocalDateTime createdTo;
+    private final LocalDateTime afterCreatedAt;
+    private final Long afterId;
+    private final Integer limit;
+
+    /**
+     * Applies the requester, manager and participant criteria to a request's parties in memory, for
+     * rows that were not read through a scoped query.
+     */
+    public boolean admits(Long requester, Long manager) {
+        return (requesterId == null || requesterId.equals(requester))
+                && (managerId == null || managerId.equals(manager))
+                && (participantId == null || participantId.equals(requester) || participantId.equals(manager));
+    }
+}
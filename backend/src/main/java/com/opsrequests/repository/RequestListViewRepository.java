@@ -0,0 +1,75 @@
+package com.opsrequests.repository;
+
+import com.opsrequests.entity.Request;
+import com.opsrequests.entity.RequestListView;
+import com.opsrequests.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface RequestListViewRepository extends JpaRepository<RequestListView, Long>,
+        JpaSpecificationExecutor<RequestListView> {
+
+    @Modifying
+    @Query("UPDATE RequestListView v SET v.status = :status, v.updatedAt = :updatedAt WHERE v.id = :id")
+    int updateStatus(@Param("id") Long id, @Param("status") Request.Status status,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("UPDATE RequestListView v SET v.status = :status, v.updatedAt = :updatedAt WHERE v.id IN :ids")
+    int updateStatuses(@Param("ids") Collection<Long> ids, @Param("status") Request.Status status,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("UPDATE RequestListView v SET v.typeCode = :code, v.typeName = :name, v.typeActive = :active "
+            + "WHERE v.typeId = :typeId")
+    int updateType(@Param("typeId") Long typeId, @Param("code") String code, @Param("name") String name,
+                   @Param("active") Boolean active);
+
+    @Modifying
+    @Query("UPDATE RequestListView v SET v.requesterEmail = :email, v.requesterRole = :role, "
+            + "v.requesterManagerId = :managerId, v.requesterActive = :active WHERE v.requesterId = :userId")
+    int updateRequester(@Param("userId") Long userId, @Param("email") String email, @Param("role") User.Role role,
+                        @Param("managerId") Long managerId, @Param("active") Boolean active);
+
+    @Modifying
+    @Query("UPDATE RequestListView v SET v.managerEmail = :email, v.managerRole = :role, "
+            + "v.managerManagerId = :managerId, v.managerActive = :active WHERE v.managerId = :userId")
+    int updateManager(@Param("userId") Long userId, @Param("email") String email, @Param("role") User.Role role,
+                      @Param("managerId") Long managerId, @Param("active") Boolean active);
+
+    // Native statements name the tables they touch, or Hibernate clears every second-level cache region
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "request_list_view"))
+    @Query(value = "DELETE FROM request_list_view", nativeQuery = true)
+    int deleteAllRows();
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "request_list_view"))
+    @Query(value = "INSERT INTO request_list_view (request_id, "
+            + "requester_id, requester_email, requester_role, requester_manager_id, requester_active, "
+            + "requester_created_at, "
+            + "manager_id, manager_email, manager_role, manager_manager_id, manager_active, manager_created_at, "
+            + "type_id, type_code, type_name, type_active, "
+            + "title, description, amount, priority, status, created_at, updated_at) "
+            + "SELECT r.id, "
+            + "rq.id, rq.email, rq.role, rq.manager_id, rq.active, rq.created_at, "
+            + "mg.id, mg.email, mg.role, mg.manager_id, mg.active, mg.created_at, "
+            + "t.id, t.code, t.name, t.active, "
+            + "r.title, r.description, r.amount, r.priority, r.status, r.created_at, r.updated_at "
+            + "FROM requests r "
+            + "JOIN users rq ON rq.id = r.requester_id "
+            + "LEFT JOIN users mg ON mg.id = r.manager_id "
+            + "JOIN request_types t ON t.id = r.type_id", nativeQuery = true)
+    int insertAllFromRequests();
+}
@@ -0,0 +1,60 @@
+package com.opsrequests.repository;
+
+import com.opsrequests.entity.RequestListView;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link RequestFilter} predicates over the denormalized read model; every column is local, so no
+ * predicate needs a join.
+ */
+public final class RequestListViewSpecifications {
+
+    private RequestListViewSpecifications() {
+    }
+
+    public static Specification<RequestListView> matching(RequestFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.getIds() != null) {
+                predicates.add(root.get("id").in(filter.getIds()));
+            }
+            if (filter.getRequesterId() != null) {
+                predicates.add(cb.equal(root.get("requesterId"), filter.getRequesterId()));
+            }
+            if (filter.getManagerId() != null) {
+                predicates.add(cb.equal(root.get("managerId"), filter.getManagerId()));
+            }
+            if (filter.getParticipantId() != null) {
+                predicates.add(cb.or(
+                        cb.equal(root.get("requesterId"), filter.getParticipantId()),
+                        cb.equal(root.get("managerId"), filter.getParticipantId())));
+            }
+            if (filter.getStatus() != null) {
+                predicates.add(cb.equal(root.get("status"), filter.getStatus()));
+            }
+            if (filter.getTypeId() != null) {
+                predicates.add(cb.equal(root.get("typeId"), filter.getTypeId()));
+            }
+            if (filter.getPriority() != null) {
+                predicates.add(cb.equal(root.get("priority"), filter.getPriority()));
+            }
+            if (filter.getCreatedFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), filter.getCreatedFrom()));
+            }
+            if (filter.getCreatedTo() != null) {
+                predicates.add(cb.lessThan(root.get("createdAt"), filter.getCreatedTo()));
+            }
+            if (filter.getAfterCreatedAt() != null && filter.getAfterId() != null) {
+                predicates.add(cb.or(
+                        cb.lessThan(root.get("createdAt"), filter.getAfterCreatedAt()),
+                        cb.and(cb.equal(root.get("createdAt"), filter.getAfterCreatedAt()),
+                                cb.lessThan(root.get("id"), filter.getAfterId()))));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.opsrequests.repository;
+
+import com.opsrequests.dto.response.AuditEventResponse;
+import com.opsrequests.dto.response.CommentResponse;
+import com.opsrequests.dto.response.RequestDetailResponse;
+import com.opsrequests.dto.response.RequestResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read side of the request listing and detail views. Results are ordered by
+ * (created_at DESC, id DESC). The implementation is chosen with {@code requests.read-path}.
+ */
+public interface RequestReadRepository {
+
+    List<RequestResponse> findRequests(RequestFilter filter);
+
+    /**
+     * Returns the request without its timelines, or empty when it does not exist or falls outside
+     * {@code scope}; only the scope's visibility criteria are meant to be set.
+     */
+    Optional<RequestDetailResponse> findRequestDetail(Long id, RequestFilter scope);
+
+    /**
+     * Returns up to {@code limit} comments with their authors, newest first, starting after the
+     * ({@code beforeCreatedAt}, {@code beforeId}) position when one is given.
+     */
+    List<CommentResponse> findComments(Long requestId, LocalDateTime beforeCreatedAt, Long beforeId, int limit);
+
+    /** Same as {@link #findComments} for audit events and their actors. */
+    List<AuditEventResponse> findAuditEvents(Long requestId, LocalDateTime beforeCreatedAt, Long beforeId, int limit);
+
+    long countComments(Long requestId);
+
+    long countAuditEvents(Long requestId);
+}
@@ -1,21 +1,119 @@
 package com.opsrequests.repository;
 
+import com.opsrequests.dto.response.RequestExportRow;
 import com.opsrequests.entity.Request;
 import com.opsrequests.entity.Request.Status;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface RequestRepository extends JpaRepository<Request, Long> {
+public interface RequestRepository extends JpaRepository<Request, Long>, JpaSpecificationExecutor<Request> {
 
+    @EntityGraph(Request.GRAPH_WITH_PARTIES)
     List<Request> findByRequesterId(Long requesterId);
 
+    @EntityGraph(Request.GRAPH_WITH_PARTIES)
     @Query("SELECT r FROM Request r WHERE r.manager.id = :managerId AND r.status = :status")
     List<Request> findByManagerIdAndStatus(@Param("managerId") Long managerId, @Param("status") Status status);
 
+    @EntityGraph(Request.GRAPH_WITH_PARTIES)
     List<Request> findByManagerId(Long managerId);
+
+    @Override
+    @EntityGraph(Request.GRAPH_WITH_PARTIES)
+    List<Request> findAll(Specification<Request> spec, Sort sort);
+
+    @EntityGraph(Request.GRAPH_WITH_PARTIES)
+    @Query("SELECT r FROM Request r WHERE r.id = :id")
+    Optional<Request> findWithPartiesById(@Param("id") Long id);
+
+    /**
+     * Loads the requests so a bulk decision can check them all in one round trip. No locks are
+     * taken; the conditional {@link #updateStatuses} decides which of them actually move.
+     */
+    @Query("SELECT r FROM Request r WHERE r.id IN :ids")
+    List<Request> findAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Moves the request to {@code toStatus} only if it is still in {@code fromStatus}, and returns
+     * the number of rows changed; 0 means a concurrent writer got there first. Clears the persistence
+     * context like {@link #updateStatuses}.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Request r SET r.status = :toStatus, r.updatedAt = :updatedAt, r.version = r.version + 1, "
+            + "r.changeSeq = function('nextval', '" + Request.CHANGE_SEQUENCE + "'), r.changedAt = :updatedAt "
+            + "WHERE r.id = :id AND r.status = :fromStatus")
+    int updateStatus(@Param("id") Long id, @Param("fromStatus") Status fromStatus,
+                     @Param("toStatus") Status toStatus, @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Moves every listed request still in {@code fromStatus} to {@code toStatus} in one statement.
+     * Lifecycle callbacks do not run, so the caller supplies {@code updatedAt}. Pending changes are
+     * flushed first and the persistence context is cleared afterwards, because loaded requests are
+     * now stale.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Request r SET r.status = :toStatus, r.updatedAt = :updatedAt, r.version = r.version + 1, "
+            + "r.changeSeq = function('nextval', '" + Request.CHANGE_SEQUENCE + "'), r.changedAt = :updatedAt "
+            + "WHERE r.id IN :ids AND r.status = :fromStatus")
+    int updateStatuses(@Param("ids") Collection<Long> ids, @Param("fromStatus") Status fromStatus,
+                       @Param("toStatus") Status toStatus, @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Moves the request to the head of the change feed, for writes that do not go through the status
+     * updates above, such as edits and comments.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Request r SET r.changeSeq = function('nextval', '" + Request.CHANGE_SEQUENCE + "'), "
+            + "r.changedAt = :changedAt WHERE r.id = :id")
+    int markChanged(@Param("id") Long id, @Param("changedAt") LocalDateTime changedAt);
+
+    /** For a type rename or deactivation, which changes how its requests are rendered. */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Request r SET r.changeSeq = function('nextval', '" + Request.CHANGE_SEQUENCE + "'), "
+            + "r.changedAt = :changedAt WHERE r.type.id = :typeId")
+    int markTypeChanged(@Param("typeId") Long typeId, @Param("changedAt") LocalDateTime changedAt);
+
+    /** For a user update, which changes how the requests they submitted or manage are rendered. */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Request r SET r.changeSeq = function('nextval', '" + Request.CHANGE_SEQUENCE + "'), "
+            + "r.changedAt = :changedAt WHERE r.requester.id = :userId OR r.manager.id = :userId")
+    int markUserChanged(@Param("userId") Long userId, @Param("changedAt") LocalDateTime changedAt);
+
+    @Query("SELECT r.requester.id AS requesterId, r.manager.id AS managerId, r.status AS status, "
+            + "r.type.id AS typeId, r.priority AS priority, COUNT(r) AS total FROM Request r "
+            + "GROUP BY r.requester.id, r.manager.id, r.status, r.type.id, r.priority")
+    List<RequestCountRow> countByScopeAndBucket();
+
+    /**
+     * Streams unmanaged export rows through a server-side cursor; callers must close the stream
+     * inside a read-only transaction.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.opsrequests.dto.response.RequestExportRow(r.id, r.title, t.code, rq.email, mg.email, "
+            + "r.amount, r.priority, r.status, r.createdAt, r.updatedAt, e.id, e.eventType, e.fromStatus, "
+            + "e.toStatus, e.note, ac.email, e.createdAt) "
+            + "FROM Request r JOIN r.type t JOIN r.requester rq LEFT JOIN r.manager mg "
+            + "LEFT JOIN RequestAuditEvent e ON e.request = r LEFT JOIN e.actor ac "
+            + "ORDER BY r.id, e.id")
+    Stream<RequestExportRow> streamExportRows();
 }
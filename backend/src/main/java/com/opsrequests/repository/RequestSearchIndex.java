@@ -0,0 +1,23 @@
+package com.opsrequests.repository;
+
+import com.opsrequests.entity.Request;
+import com.opsrequests.entity.RequestComment;
+
+import java.util.List;
+
+/**
+ * Keyword index over request titles, descriptions and comments. Selected by
+ * {@code requests.search.engine}.
+ */
+public interface RequestSearchIndex {
+
+    /**
+     * Returns the ids of matching requests, best match first. Only the requester and manager of
+     * {@code scope} are applied.
+     */
+    List<Long> search(String query, RequestFilter scope, int limit);
+
+    void indexRequest(Request request);
+
+    void indexComment(RequestComment comment);
+}
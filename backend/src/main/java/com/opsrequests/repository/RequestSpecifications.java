@@ -0,0 +1,92 @@
+package com.opsrequests.repository;
+
+import com.opsrequests.entity.Request;
+import com.opsrequests.entity.Request.Priority;
+import com.opsrequests.entity.Request.Status;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public final class RequestSpecifications {
+
+    private RequestSpecifications() {
+    }
+
+    public static Specification<Request> hasIdIn(Collection<Long> ids) {
+        return (root, query, cb) -> ids == null ? null : root.get("id").in(ids);
+    }
+
+    public static Specification<Request> requestedBy(Long requesterId) {
+        return (root, query, cb) -> cb.equal(root.get("requester").get("id"), requesterId);
+    }
+
+    public static Specification<Request> managedBy(Long managerId) {
+        return (root, query, cb) -> cb.equal(root.get("manager").get("id"), managerId);
+    }
+
+    public static Specification<Request> involving(Long userId) {
+        return (root, query, cb) -> cb.or(
+                cb.equal(root.get("requester").get("id"), userId),
+                cb.equal(root.get("manager").get("id"), userId));
+    }
+
+    public static Specification<Request> changedAfter(long changeSeq) {
+        return (root, query, cb) -> cb.greaterThan(root.get("changeSeq"), changeSeq);
+    }
+
+    public static Specification<Request> hasStatus(Status status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Request> hasType(Long typeId) {
+        return (root, query, cb) -> typeId == null ? null : cb.equal(root.get("type").get("id"), typeId);
+    }
+
+    public static Specification<Request> hasPriority(Priority priority) {
+        return (root, query, cb) -> priority == null ? null : cb.equal(root.get("priority"), priority);
+    }
+
+    public static Specification<Request> createdFrom(LocalDateTime from) {
+        return (root, query, cb) -> from == null ? null : cb.greaterThanOrEqualTo(root.get("createdAt"), from);
+    }
+
+    public static Specification<Request> createdBefore(LocalDateTime to) {
+        return (root, query, cb) -> to == null ? null : cb.lessThan(root.get("createdAt"), to);
+    }
+
+    /**
+     * Keyset predicate for the (created_at DESC, id DESC) ordering: matches rows strictly after the
+     * given position, so each page is a bounded index range scan instead of an OFFSET.
+     */
+    public static Specification<Request> after(LocalDateTime createdAt, Long id) {
+        return (root, query, cb) -> {
+            if (createdAt == null || id == null) {
+                return null;
+            }
+            return cb.or(
+                    cb.lessThan(root.get("createdAt"), createdAt),
+                    cb.and(cb.equal(root.get("createdAt"), createdAt), cb.lessThan(root.get("id"), id)));
+        };
+    }
+
+    public static Specification<Request> matching(RequestFilter filter) {
+        Specification<Request> spec = Specification.where(hasIdIn(filter.getIds()))
+                .and(hasStatus(filter.getStatus()))
+                .and(hasType(filter.getTypeId()))
+                .and(hasPriority(filter.getPriority()))
+                .and(createdFrom(filter.getCreatedFrom()))
+                .and(createdBefore(filter.getCreatedTo()))
+                .and(after(filter.getAfterCreatedAt(), filter.getAfterId()));
+        if (filter.getRequesterId() != null) {
+            spec = spec.and(requestedBy(filter.getRequesterId()));
+        }
+        if (filter.getManagerId() != null) {
+            spec = spec.and(managedBy(filter.getManagerId()));
+        }
+        if (filter.getParticipantId() != null) {
+            spec = spec.and(involving(filter.getParticipantId()));
+        }
+        return spec;
+    }
+}
@@ -0,0 +1,13 @@
+package com.opsrequests.repository;
+
+import com.opsrequests.entity.RequestType;
+
+import java.util.Optional;
+
+/**
+ * Natural id lookups, resolved through the second-level cache before the database.
+ */
+public interface RequestTypeRepositoryCustom {
+
+    Optional<RequestType> findByCode(String code);
+}
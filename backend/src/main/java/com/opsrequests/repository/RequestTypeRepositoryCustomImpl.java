@@ -0,0 +1,21 @@
+package com.opsrequests.repository;
+
+import com.opsrequests.entity.RequestType;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class RequestTypeRepositoryCustomImpl implements RequestTypeRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<RequestType> findByCode(String code) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(RequestType.class).loadOptional(code);
+    }
+}
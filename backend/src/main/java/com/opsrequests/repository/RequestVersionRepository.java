@@ -0,0 +1,68 @@
+package com.opsrequests.repository;
+
+import com.opsrequests.entity.Request;
+import com.opsrequests.entity.RequestAuditEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Version tokens for conditional GETs, read with one small query instead of loading the response.
+ * They build on {@code change_seq}, which every write to a request, its comments, its parties or
+ * its type moves forward. Audit events are drained in the background without touching the
+ * request, so the detail version also carries the latest audit event id.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RequestVersionRepository {
+
+    private final EntityManager entityManager;
+
+    /** Returns the detail version, or empty when the request does not exist or is outside {@code scope}. */
+    public Optional<String> findDetailVersion(Long id, RequestFilter scope) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Request> request = query.from(Request.class);
+
+        Subquery<Long> latestAuditEvent = query.subquery(Long.class);
+        Root<RequestAuditEvent> event = latestAuditEvent.from(RequestAuditEvent.class);
+        latestAuditEvent.select(cb.max(event.get("id")))
+                .where(cb.equal(event.get("request").get("id"), request.get("id")));
+
+        query.multiselect(request.get("changeSeq"), latestAuditEvent)
+                .where(RequestSpecifications.matching(scope.toBuilder().ids(List.of(id)).build())
+                        .toPredicate(request, query, cb));
+
+        return entityManager.createQuery(query).getResultStream().findFirst()
+                .map(row -> row.get(0, Long.class) + "." + Objects.requireNonNullElse(row.get(1, Long.class), 0L));
+    }
+
+    /**
+     * Returns the version of the rows matching {@code filter}: the highest change_seq among them
+     * and their count, which also moves when a request changes out of the filter.
+     */
+    public String findListVersion(RequestFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Request> request = query.from(Request.class);
+
+        query.multiselect(cb.max(request.<Long>get("changeSeq")), cb.count(request));
+        Predicate predicate = RequestSpecifications.matching(filter).toPredicate(request, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        Tuple row = entityManager.createQuery(query).getSingleResult();
+        return Objects.requireNonNullElse(row.get(0, Long.class), 0L) + "." + row.get(1, Long.class);
+    }
+}
@@ -2,14 +2,20 @@ package com.opsrequests.repository;
 
 import com.opsrequests.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
-
-    Optional<User> findByEmail(String email);
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 
     boolean existsByEmail(String email);
+
+    /**
+     * Loads the user with a query, so the row is read even when the second-level cache holds it.
+     */
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findCurrentById(@Param("id") Long id);
 }
@@ -0,0 +1,13 @@
+package com.opsrequests.repository;
+
+import com.opsrequests.entity.User;
+
+import java.util.Optional;
+
+/**
+ * Natural id lookups, resolved through the second-level cache before the database.
+ */
+public interface UserRepositoryCustom {
+
+    Optional<User> findByEmail(String email);
+}
@@ -1,6 +1,8 @@
 package com.opsrequests.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,19 +11,32 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final long jwtExpirationMs;
 
-    @Value("${jwt.expiration}")
-    private long jwtExpirationMs;
+    // SHA-256 digest of a verified token -> its claims, kept until the token expires
+    private final Map<String, Claims> verifiedTokens = new ConcurrentHashMap<>();
+    private final int verifiedTokenCacheSize;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    public JwtTokenProvider(@Value("${jwt.secret}") String jwtSecret,
+                            @Value("${jwt.expiration}") long jwtExpirationMs,
+                            @Value("${jwt.verified-token-cache.max-size:10000}") int verifiedTokenCacheSize) {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.jwtExpirationMs = jwtExpirationMs;
+        this.verifiedTokenCacheSize = verifiedTokenCacheSize;
     }
 
     public String generateToken(Authentication authentication) {
@@ -34,29 +49,59 @@ public class JwtTokenProvider {
                 .subject(String.valueOf(userPrincipal.getId()))
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * Verifies the signature and expiry and returns the claims, or null when the token is invalid.
+     * Tokens verified before are answered from a digest-keyed cache until they expire.
+     */
+    public Claims verifyAndExtract(String token) {
+        long now = System.currentTimeMillis();
+        String digest = verifiedTokenCacheSize > 0 ? digest(token) : null;
 
-        return Long.parseLong(claims.getSubject());
+        if (digest != null) {
+            Claims cached = verifiedTokens.get(digest);
+            if (cached != null) {
+                if (cached.getExpiration().getTime() > now) {
+                    return cached;
+                }
+                verifiedTokens.remove(digest);
+            }
+        }
+
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException ex) {
+            return null;
+        }
+
+        if (digest != null && claims.getExpiration() != null) {
+            if (verifiedTokens.size() >= verifiedTokenCacheSize) {
+                evict(now);
+            }
+            verifiedTokens.put(digest, claims);
+        }
+        return claims;
+    }
+
+    private void evict(long now) {
+        verifiedTokens.values().removeIf(claims -> claims.getExpiration().getTime() <= now);
+        Iterator<String> digests = verifiedTokens.keySet().iterator();
+        while (verifiedTokens.size() >= verifiedTokenCacheSize && digests.hasNext()) {
+            digests.next();
+            digests.remove();
+        }
     }
 
-    public boolean validateToken(String authToken) {
+    private static String digest(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(authToken);
-            return true;
-        } catch (Exception ex) {
-            return false;
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
     }
 }
@@ -0,0 +1,42 @@
+package com.opsrequests.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.function.Supplier;
+
+/**
+ * Lets Prometheus scrape with HTTP Basic credentials of its own, since user tokens expire. With no
+ * password configured, no request passes this check.
+ */
+@Component
+public class MetricsScrapeAuthorization implements AuthorizationManager<RequestAuthorizationContext> {
+
+    public static final String USERNAME = "prometheus";
+
+    private final byte[] expectedHeader;
+
+    public MetricsScrapeAuthorization(@Value("${metrics.scrape-password:}") String password) {
+        this.expectedHeader = StringUtils.hasText(password)
+                ? ("Basic " + Base64.getEncoder().encodeToString(
+                        (USERNAME + ":" + password).getBytes(StandardCharsets.UTF_8)))
+                        .getBytes(StandardCharsets.UTF_8)
+                : null;
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        String header = context.getRequest().getHeader(HttpHeaders.AUTHORIZATION);
+        return new AuthorizationDecision(expectedHeader != null && header != null
+                && MessageDigest.isEqual(expectedHeader, header.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,87 @@
+package com.opsrequests.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of principals loaded from the database, kept for a short TTL so most requests run
+ * no query. The TTL bounds how long a role or status change made through another instance goes
+ * unseen; a change made through this one drops the principal once it commits.
+ */
+@Component
+public class PrincipalCache {
+
+    private final Map<Long, Entry> principals = new ConcurrentHashMap<>();
+    /** Bumped by every invalidation, so a load that overlapped one is not cached. */
+    private final AtomicLong generation = new AtomicLong();
+
+    @Value("${jwt.principal-cache.ttl-ms:5000}")
+    private long ttlMs;
+
+    @Value("${jwt.principal-cache.max-size:10000}")
+    private int maxSize;
+
+    /**
+     * Returns the cached principal, or loads and caches it when missing or expired. A null result
+     * from the loader is not cached.
+     */
+    public UserPrincipal get(Long userId, Supplier<UserPrincipal> loader) {
+        long now = System.currentTimeMillis();
+        Entry entry = principals.get(userId);
+        if (entry != null && entry.expiresAt > now) {
+            return entry.principal;
+        }
+
+        long loadedAt = generation.get();
+        UserPrincipal principal = loader.get();
+        if (principal != null && loadedAt == generation.get()) {
+            if (principals.size() >= maxSize) {
+                evict(now);
+            }
+            principals.put(userId, new Entry(principal, now + ttlMs));
+        }
+        return principal;
+    }
+
+    /**
+     * Drops the cached principal now and again once the current transaction commits, so a load that
+     * read the row before the commit is not kept. Call when a user is deactivated or their role or
+     * manager changes.
+     */
+    public void invalidate(Long userId) {
+        discard(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    discard(userId);
+                }
+            });
+        }
+    }
+
+    private void discard(Long userId) {
+        generation.incrementAndGet();
+        principals.remove(userId);
+    }
+
+    private void evict(long now) {
+        principals.values().removeIf(entry -> entry.expiresAt <= now);
+        Iterator<Long> keys = principals.keySet().iterator();
+        while (principals.size() >= maxSize && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private record Entry(UserPrincipal principal, long expiresAt) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.opsrequests.service;
+
+import com.opsrequests.entity.AuditOutboxEntry;
+import com.opsrequests.entity.RequestAuditEvent.EventType;
+import com.opsrequests.repository.AuditOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Captures audit events inside the caller's transaction. Entries commit or roll back with the
+ * business change and reach {@code request_audit_events} through {@link AuditOutboxDrainer}.
+ */
+@Service
+@RequiredArgsConstructor
+public class AuditOutbox {
+
+    private final AuditOutboxRepository auditOutboxRepository;
+
+    public void record(Long requestId, Long actorId, EventType eventType, String fromStatus, String toStatus,
+                       String note) {
+        auditOutboxRepository.save(AuditOutboxEntry.builder()
+                .requestId(requestId)
+                .actorId(actorId)
+                .eventType(eventType)
+                .fromStatus(fromStatus)
+                .toStatus(toStatus)
+                .note(note)
+                .build());
+    }
+}
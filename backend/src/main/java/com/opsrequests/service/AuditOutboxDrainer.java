@@ -0,0 +1,103 @@
+package com.opsrequests.service;
+
+import com.opsrequests.entity.AuditOutboxEntry;
+import com.opsrequests.entity.Request;
+import com.opsrequests.entity.RequestAuditEvent;
+import com.opsrequests.entity.User;
+import com.opsrequests.repository.AuditOutboxRepository;
+import com.opsrequests.repository.RequestAuditEventRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves captured audit events from {@code audit_event_outbox} into {@code request_audit_events} in
+ * batches. Each batch is claimed, inserted and deleted in one transaction, so an entry is written
+ * exactly once even if the process dies mid-drain; whatever is left is picked up after a restart.
+ */
+@Component
+public class AuditOutboxDrainer {
+
+    private final AuditOutboxRepository auditOutboxRepository;
+    private final RequestAuditEventRepository auditEventRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final RequestDetailCache requestDetailCache;
+    private final int batchSize;
+
+    private final Timer drainLag;
+
+    public AuditOutboxDrainer(AuditOutboxRepository auditOutboxRepository,
+                              RequestAuditEventRepository auditEventRepository,
+                              EntityManager entityManager,
+                              TransactionTemplate transactionTemplate,
+                              RequestDetailCache requestDetailCache,
+                              MeterRegistry meterRegistry,
+                              @Value("${audit.outbox.batch-size:500}") int batchSize) {
+        this.auditOutboxRepository = auditOutboxRepository;
+        this.auditEventRepository = auditEventRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.requestDetailCache = requestDetailCache;
+        this.batchSize = batchSize;
+
+        // Counted from the table when read, so every instance reports the same backlog; the table stays small
+        Gauge.builder("audit.outbox.depth", auditOutboxRepository, AuditOutboxRepository::count)
+                .description("Audit events committed but not yet drained")
+                .register(meterRegistry);
+        this.drainLag = Timer.builder("audit.outbox.drain.lag")
+                .description("Time from capturing an audit event to writing it to request_audit_events")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${audit.outbox.drain-interval-ms:200}")
+    public void drainPending() {
+        while (drain() == batchSize) {
+            // Keep going while full batches come back
+        }
+    }
+
+    /**
+     * Drains one batch and returns its size. Joins the caller's transaction when there is one.
+     */
+    public int drain() {
+        List<AuditOutboxEntry> drained = transactionTemplate.execute(status -> {
+            List<AuditOutboxEntry> entries = auditOutboxRepository.findOldestForDrain(PageRequest.of(0, batchSize));
+            if (entries.isEmpty()) {
+                return entries;
+            }
+            for (AuditOutboxEntry entry : entries) {
+                auditEventRepository.save(RequestAuditEvent.builder()
+                        .request(entityManager.getReference(Request.class, entry.getRequestId()))
+                        .actor(entityManager.getReference(User.class, entry.getActorId()))
+                        .eventType(entry.getEventType())
+                        .fromStatus(entry.getFromStatus())
+                        .toStatus(entry.getToStatus())
+                        .note(entry.getNote())
+                        .createdAt(entry.getCreatedAt())
+                        .build());
+            }
+            auditOutboxRepository.deleteByIdIn(entries.stream().map(AuditOutboxEntry::getId).toList());
+            // Written now rather than at commit, so a caller that joined the transaction sees the events
+            entityManager.flush();
+            requestDetailCache.evict(entries.stream().map(AuditOutboxEntry::getRequestId).distinct().toList());
+            return entries;
+        });
+
+        LocalDateTime now = LocalDateTime.now();
+        for (AuditOutboxEntry entry : drained) {
+            drainLag.record(Duration.between(entry.getCreatedAt(), now));
+        }
+        return drained.size();
+    }
+}
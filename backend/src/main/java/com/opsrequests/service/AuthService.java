@@ -43,9 +43,10 @@ public class AuthService {
 
         user = userRepository.save(user);
 
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
-        );
+        // The password was just hashed; authenticating again would pay a second BCrypt round
+        UserPrincipal userPrincipal = UserPrincipal.create(user);
+        Authentication authentication = new UsernamePasswordAuthenticationToken(userPrincipal, null,
+                userPrincipal.getAuthorities());
 
         String token = tokenProvider.generateToken(authentication);
 
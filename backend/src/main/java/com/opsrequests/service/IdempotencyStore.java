@@ -0,0 +1,175 @@
+package com.opsrequests.service;
+
+import com.opsrequests.entity.IdempotencyRecord;
+import com.opsrequests.exception.ConflictException;
+import com.opsrequests.exception.IdempotencyKeyReusedException;
+import com.opsrequests.repository.IdempotencyRecordRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Responses to requests sent with an {@code Idempotency-Key}, in two tiers. The in-memory tier is a
+ * lock-free map of in-flight and recent executions: the first request for a key claims it and runs,
+ * concurrent retries wait on its result instead of running again. Completed responses are also
+ * written to {@code idempotency_keys}, so retries that arrive after a restart or on another
+ * instance are replayed too. Both tiers drop entries once their TTL has passed.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    private static final String KEY_REUSED = "Idempotency-Key was already used for a different request";
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${idempotency.ttl-ms:86400000}")
+    private long ttlMs;
+
+    @Value("${idempotency.max-size:10000}")
+    private int maxSize;
+
+    @Value("${idempotency.wait-timeout-ms:10000}")
+    private long waitTimeoutMs;
+
+    /**
+     * Returns the response recorded for the key, or runs {@code action} and records its response.
+     * A key can only be replayed for the request that first used it, identified by
+     * {@code fingerprint}. Server errors are returned but not recorded, so a later retry runs again.
+     */
+    public Response execute(String scopedKey, String fingerprint, Supplier<Response> action) {
+        while (true) {
+            long now = System.currentTimeMillis();
+            Entry entry = entries.get(scopedKey);
+            if (entry != null && entry.isExpired(now)) {
+                entries.remove(scopedKey, entry);
+                entry = null;
+            }
+            if (entry == null) {
+                if (entries.size() >= maxSize) {
+                    evict(now);
+                }
+                Entry claimed = new Entry(fingerprint, new CompletableFuture<>(), now + ttlMs);
+                entry = entries.putIfAbsent(scopedKey, claimed);
+                if (entry == null) {
+                    return run(scopedKey, claimed, action);
+                }
+            }
+
+            if (!entry.fingerprint().equals(fingerprint)) {
+                throw new IdempotencyKeyReusedException(KEY_REUSED);
+            }
+            Response response = await(entry);
+            if (response != null) {
+                return response;
+            }
+            // The execution we waited on ended without a response; claim the key ourselves
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:600000}")
+    @Transactional
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+        idempotencyRecordRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    private Response run(String scopedKey, Entry claimed, Supplier<Response> action) {
+        Response response = null;
+        try {
+            IdempotencyRecord record = idempotencyRecordRepository.findById(scopedKey)
+                    .filter(existing -> existing.getExpiresAt().isAfter(LocalDateTime.now()))
+                    .orElse(null);
+            if (record != null) {
+                if (!record.getRequestFingerprint().equals(claimed.fingerprint())) {
+                    throw new IdempotencyKeyReusedException(KEY_REUSED);
+                }
+                response = new Response(record.getResponseStatus(), record.getContentType(),
+                        record.getResponseBody());
+                entries.replace(scopedKey, claimed, new Entry(claimed.fingerprint(), claimed.response(),
+                        record.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()));
+            } else {
+                response = action.get();
+                if (response.status() < 500) {
+                    record(scopedKey, claimed, response);
+                }
+            }
+            return response;
+        } finally {
+            if (response == null || response.status() >= 500) {
+                entries.remove(scopedKey, claimed);
+            }
+            claimed.response().complete(response);
+        }
+    }
+
+    private void record(String scopedKey, Entry claimed, Response response) {
+        try {
+            idempotencyRecordRepository.save(IdempotencyRecord.builder()
+                    .scopedKey(scopedKey)
+                    .requestFingerprint(claimed.fingerprint())
+                    .responseStatus(response.status())
+                    .contentType(response.contentType())
+                    .responseBody(response.body())
+                    .expiresAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(claimed.expiresAt()),
+                            ZoneId.systemDefault()))
+                    .build());
+        } catch (DataAccessException e) {
+            // The request has already been carried out, so its response is still returned. Retries
+            // reaching this instance are answered from memory; another instance recording the same
+            // key first ends up here too.
+        }
+    }
+
+    private Response await(Entry entry) {
+        try {
+            return entry.response().get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ConflictException("A request with this Idempotency-Key is still being processed");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConflictException("A request with this Idempotency-Key is still being processed");
+        } catch (ExecutionException e) {
+            // Executions complete with a value or null, never exceptionally
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void evict(long now) {
+        entries.values().removeIf(entry -> entry.isExpired(now));
+        Iterator<Entry> values = entries.values().iterator();
+        while (entries.size() >= maxSize && values.hasNext()) {
+            // In-flight executions stay so their retries keep coalescing; the table still has the rest
+            if (values.next().response().isDone()) {
+                values.remove();
+            }
+        }
+    }
+
+    public record Response(int status, String contentType, String body) {
+    }
+
+    private record Entry(String fingerprint, CompletableFuture<Response> response, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return expiresAt <= now && response.isDone();
+        }
+    }
+}
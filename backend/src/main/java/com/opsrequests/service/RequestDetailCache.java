@@ -0,0 +1,231 @@
+package com.opsrequests.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Serialized request details by request id, bounded by their total size in bytes. Entries are the
+ * same for every caller and carry the request's requester and manager, so access is checked per
+ * caller without a query. Concurrent misses for an id share one load. Writers evict the id at once
+ * and again when their transaction completes, so a detail loaded from the state before the commit
+ * is not kept. Evictions only reach this instance; the TTL bounds how long writes made through
+ * another instance go unseen.
+ */
+@Component
+public class RequestDetailCache {
+
+    /** Rough per-entry cost of the map node, slot, future and entry on top of the JSON bytes. */
+    private static final long ENTRY_OVERHEAD_BYTES = 256;
+
+    private final Map<Long, Slot> slots = new ConcurrentHashMap<>();
+    private final AtomicLong cachedBytes = new AtomicLong();
+    private final AtomicLong loadSequence = new AtomicLong();
+    private final long maxBytes;
+    private final long ttlMs;
+    private final Counter hits;
+    private final Counter misses;
+
+    public RequestDetailCache(MeterRegistry meterRegistry,
+                              @Value("${requests.detail-cache.max-bytes:33554432}") long maxBytes,
+                              @Value("${requests.detail-cache.ttl-ms:30000}") long ttlMs) {
+        this.maxBytes = maxBytes;
+        this.ttlMs = ttlMs;
+
+        Gauge.builder("request.detail.cache.size", cachedBytes, AtomicLong::get)
+                .description("Serialized request details held in memory")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.hits = Counter.builder("request.detail.cache.requests")
+                .tag("result", "hit")
+                .description("Request detail reads served from the cache")
+                .register(meterRegistry);
+        this.misses = Counter.builder("request.detail.cache.requests")
+                .tag("result", "miss")
+                .description("Request detail reads that loaded the detail")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached detail of {@code id}, or runs {@code loader} once for every concurrent
+     * caller. A failed load is not shared: callers that waited on it load for themselves, so one
+     * caller's access error never reaches another.
+     */
+    public Entry get(Long id, Supplier<Entry> loader) {
+        while (true) {
+            Slot slot = slots.get(id);
+            if (slot == null) {
+                Slot claimed = new Slot(loadSequence.incrementAndGet(), System.currentTimeMillis() + ttlMs);
+                slot = slots.putIfAbsent(id, claimed);
+                if (slot == null) {
+                    misses.increment();
+                    return load(id, claimed, loader);
+                }
+            }
+
+            Entry entry = await(slot);
+            if (entry == null) {
+                // The load failed and its slot is already gone
+                continue;
+            }
+            if (slot.expiresAt <= System.currentTimeMillis()) {
+                remove(id, slot);
+                continue;
+            }
+            hits.increment();
+            return entry;
+        }
+    }
+
+    /**
+     * Drops {@code id} now and again once the current transaction commits or rolls back.
+     */
+    public void evict(Long id) {
+        evict(List.of(id));
+    }
+
+    public void evict(Collection<Long> ids) {
+        ids.forEach(this::discard);
+        afterCompletion(() -> ids.forEach(this::discard));
+    }
+
+    /**
+     * For changes that reach many requests at once, such as a renamed type or an updated user.
+     */
+    public void evictAll() {
+        slots.keySet().forEach(this::discard);
+        afterCompletion(() -> slots.keySet().forEach(this::discard));
+    }
+
+    public long size() {
+        return cachedBytes.get();
+    }
+
+    private Entry load(Long id, Slot claimed, Supplier<Entry> loader) {
+        Entry entry;
+        try {
+            entry = loader.get();
+        } catch (RuntimeException | Error e) {
+            slots.remove(id, claimed);
+            claimed.future.completeExceptionally(e);
+            throw e;
+        }
+
+        long weight = entry.json().length + ENTRY_OVERHEAD_BYTES;
+        if (weight > maxBytes) {
+            slots.remove(id, claimed);
+        } else {
+            // Only counted while the slot is still mapped; an eviction during the load already dropped it
+            slots.computeIfPresent(id, (key, current) -> {
+                if (current == claimed) {
+                    current.weight = weight;
+                    cachedBytes.addAndGet(weight);
+                }
+                return current;
+            });
+        }
+        claimed.future.complete(entry);
+
+        if (cachedBytes.get() > maxBytes) {
+            trim();
+        }
+        return entry;
+    }
+
+    /**
+     * Drops expired entries, then the oldest ones until a tenth of the budget is free again.
+     */
+    private synchronized void trim() {
+        long now = System.currentTimeMillis();
+        List<Map.Entry<Long, Slot>> loaded = new ArrayList<>();
+        for (Map.Entry<Long, Slot> cached : slots.entrySet()) {
+            if (cached.getValue().expiresAt <= now) {
+                remove(cached.getKey(), cached.getValue());
+            } else if (cached.getValue().future.isDone()) {
+                loaded.add(cached);
+            }
+        }
+
+        long target = maxBytes - maxBytes / 10;
+        loaded.sort(Comparator.comparingLong(cached -> cached.getValue().sequence));
+        for (Map.Entry<Long, Slot> cached : loaded) {
+            if (cachedBytes.get() <= target) {
+                break;
+            }
+            remove(cached.getKey(), cached.getValue());
+        }
+    }
+
+    private void discard(Long id) {
+        Slot slot = slots.get(id);
+        if (slot != null) {
+            remove(id, slot);
+        }
+    }
+
+    private void remove(Long id, Slot slot) {
+        slots.computeIfPresent(id, (key, current) -> {
+            if (current != slot) {
+                return current;
+            }
+            cachedBytes.addAndGet(-current.weight);
+            return null;
+        });
+    }
+
+    private static Entry await(Slot slot) {
+        try {
+            return slot.future.join();
+        } catch (CompletionException e) {
+            return null;
+        }
+    }
+
+    private static void afterCompletion(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * A request detail rendered as JSON, with the version token it was read at and the parties the
+     * visibility rule needs.
+     */
+    public record Entry(String version, byte[] json, Long requesterId, Long managerId) {
+    }
+
+    private static final class Slot {
+
+        private final CompletableFuture<Entry> future = new CompletableFuture<>();
+        private final long sequence;
+        private final long expiresAt;
+        /** Bytes counted for this slot; only read and written inside the map's per-key compute. */
+        private long weight;
+
+        private Slot(long sequence, long expiresAt) {
+            this.sequence = sequence;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
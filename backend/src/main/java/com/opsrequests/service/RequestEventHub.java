@@ -0,0 +1,217 @@
+package com.opsrequests.service;
+
+import com.opsrequests.dto.response.RequestEventResponse;
+import com.opsrequests.entity.User;
+import com.opsrequests.exception.ServiceUnavailableException;
+import com.opsrequests.security.UserPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-process fan-out of request events to Server-Sent Events subscribers. Publishing only queues:
+ * each subscriber has a bounded buffer drained by a small sender pool, so a slow connection never
+ * holds up the request that committed the change. A subscriber whose buffer fills up is evicted and
+ * its stream closed; clients reconnect and catch up from the change feed. Heartbeats keep idle
+ * streams open through proxies and find dead connections.
+ */
+@Component
+public class RequestEventHub {
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Executor senders;
+    private final Counter evictions;
+    private final int bufferSize;
+    private final long timeoutMs;
+    private final int maxSubscribers;
+
+    @Autowired
+    public RequestEventHub(MeterRegistry meterRegistry,
+                           @Value("${requests.events.sender-threads:2}") int senderThreads,
+                           @Value("${requests.events.buffer-size:64}") int bufferSize,
+                           @Value("${requests.events.timeout-ms:1800000}") long timeoutMs,
+                           @Value("${requests.events.max-subscribers:10000}") int maxSubscribers) {
+        this(Executors.newFixedThreadPool(senderThreads, new CustomizableThreadFactory("request-events-")),
+                meterRegistry, bufferSize, timeoutMs, maxSubscribers);
+    }
+
+    RequestEventHub(Executor senders, MeterRegistry meterRegistry, int bufferSize, long timeoutMs,
+                    int maxSubscribers) {
+        this.senders = senders;
+        this.bufferSize = bufferSize;
+        this.timeoutMs = timeoutMs;
+        this.maxSubscribers = maxSubscribers;
+
+        Gauge.builder("request.events.subscribers", subscribers, Set::size)
+                .description("Open request event streams")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("request.events.evictions")
+                .description("Request event streams closed because the client fell behind")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream of the events for requests the caller can see: their own, those assigned to
+     * them, or all of them for admins.
+     */
+    public SseEmitter subscribe(UserPrincipal userPrincipal) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ServiceUnavailableException("Too many open event streams, please retry");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(userPrincipal.getId(), userPrincipal.getRole() == User.Role.ADMIN,
+                emitter, new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        // Sent straight away so the response is committed and proxies see the stream start
+        enqueue(subscriber, SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    /**
+     * Sends {@code event} to the requester, the manager and admins once the surrounding transaction
+     * commits; nothing is sent if it rolls back.
+     */
+    public void publish(RequestEventResponse event, Long requesterId, Long managerId) {
+        afterCommit(() -> {
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.admin() || subscriber.userId().equals(requesterId)
+                        || subscriber.userId().equals(managerId)) {
+                    enqueue(subscriber, SseEmitter.event()
+                            .name(event.getType().name())
+                            .data(event, MediaType.APPLICATION_JSON));
+                }
+            }
+        });
+    }
+
+    @Scheduled(fixedRateString = "${requests.events.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (senders instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter().complete();
+        }
+        subscribers.clear();
+    }
+
+    private void enqueue(Subscriber subscriber, SseEventBuilder event) {
+        if (subscriber.closed().get()) {
+            return;
+        }
+        if (!subscriber.buffer().offer(event)) {
+            evict(subscriber);
+            return;
+        }
+        schedule(subscriber);
+    }
+
+    private void evict(Subscriber subscriber) {
+        if (!subscriber.closed().compareAndSet(false, true)) {
+            return;
+        }
+        subscribers.remove(subscriber);
+        subscriber.buffer().clear();
+        evictions.increment();
+        // Completing waits for a send in progress, so it happens on the sender side, never here
+        schedule(subscriber);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining().compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    /** Runs on one sender thread at a time per subscriber, so events go out in order. */
+    private void drain(Subscriber subscriber) {
+        try {
+            do {
+                if (subscriber.closed().get()) {
+                    subscriber.emitter().complete();
+                    return;
+                }
+                SseEventBuilder event;
+                while ((event = subscriber.buffer().poll()) != null) {
+                    subscriber.emitter().send(event);
+                }
+                subscriber.draining().set(false);
+                // An event queued after the last poll but before the flag was cleared is picked up here
+            } while ((!subscriber.buffer().isEmpty() || subscriber.closed().get())
+                    && subscriber.draining().compareAndSet(false, true));
+        } catch (IOException | IllegalStateException e) {
+            // The client went away; the container reports the error and the emitter cleans up
+            subscriber.closed().set(true);
+            subscribers.remove(subscriber);
+            subscriber.buffer().clear();
+            subscriber.draining().set(false);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Subscriber(Long userId, boolean admin, SseEmitter emitter, BlockingQueue<SseEventBuilder> buffer,
+                              AtomicBoolean draining, AtomicBoolean closed) {
+
+        Subscriber(Long userId, boolean admin, SseEmitter emitter, BlockingQueue<SseEventBuilder> buffer) {
+            this(userId, admin, emitter, buffer, new AtomicBoolean(), new AtomicBoolean());
+        }
+
+        // Identity semantics: two streams of the same user are different subscribers
+        @Override
+        public boolean equals(Object other) {
+            return this == other;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+}
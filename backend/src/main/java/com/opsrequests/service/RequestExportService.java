@@ -0,0 +1,94 @@
+package com.opsrequests.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opsrequests.dto.response.RequestExportRow;
+import com.opsrequests.repository.RequestRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes every request with its audit trail as rows arrive from the database cursor, so heap
+ * use does not depend on the number of rows exported.
+ */
+@Service
+@RequiredArgsConstructor
+public class RequestExportService {
+
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    private static final String[] CSV_HEADER = {
+            "request_id", "title", "type_code", "requester_email", "manager_email", "amount", "priority",
+            "status", "created_at", "updated_at", "event_id", "event_type", "from_status", "to_status",
+            "note", "actor_email", "event_created_at"
+    };
+
+    private final RequestRepository requestRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void export(Format format, OutputStream out) throws IOException {
+        try (Stream<RequestExportRow> rows = requestRepository.streamExportRows()) {
+            if (format == Format.CSV) {
+                writeCsv(rows.iterator(), out);
+            } else {
+                writeNdjson(rows.iterator(), out);
+            }
+        }
+    }
+
+    private void writeNdjson(Iterator<RequestExportRow> rows, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        while (rows.hasNext()) {
+            generator.writeObject(rows.next());
+            generator.writeRaw('\n');
+        }
+        generator.close();
+    }
+
+    private void writeCsv(Iterator<RequestExportRow> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeCsvLine(writer, (Object[]) CSV_HEADER);
+        while (rows.hasNext()) {
+            RequestExportRow row = rows.next();
+            writeCsvLine(writer, row.getRequestId(), row.getTitle(), row.getTypeCode(), row.getRequesterEmail(),
+                    row.getManagerEmail(), row.getAmount(), row.getPriority(), row.getStatus(), row.getCreatedAt(),
+                    row.getUpdatedAt(), row.getEventId(), row.getEventType(), row.getFromStatus(),
+                    row.getToStatus(), row.getNote(), row.getActorEmail(), row.getEventCreatedAt());
+        }
+        writer.flush();
+    }
+
+    private void writeCsvLine(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(escapeCsv(values[i].toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
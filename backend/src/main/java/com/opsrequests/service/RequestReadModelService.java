@@ -0,0 +1,108 @@
+package com.opsrequests.service;
+
+import com.opsrequests.entity.Request;
+import com.opsrequests.entity.RequestListView;
+import com.opsrequests.entity.RequestType;
+import com.opsrequests.entity.User;
+import com.opsrequests.repository.RequestListViewRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Keeps {@code request_list_view} in step with the write model. Callers invoke it inside the
+ * transaction that changed the request or type, so the read model commits or rolls back with it.
+ */
+@Service
+@RequiredArgsConstructor
+public class RequestReadModelService {
+
+    private final RequestListViewRepository requestListViewRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * Copies the request into its read-model row. The request must already be flushed so that
+     * lifecycle timestamps are current.
+     */
+    @Transactional
+    public void project(Request request) {
+        RequestListView existing = requestListViewRepository.findById(request.getId()).orElse(null);
+        RequestListView view = existing != null ? existing : RequestListView.builder().id(request.getId()).build();
+
+        User requester = request.getRequester();
+        view.setRequesterId(requester.getId());
+        view.setRequesterEmail(requester.getEmail());
+        view.setRequesterRole(requester.getRole());
+        view.setRequesterManagerId(requester.getManagerId());
+        view.setRequesterActive(requester.getActive());
+        view.setRequesterCreatedAt(requester.getCreatedAt());
+
+        User manager = request.getManager();
+        view.setManagerId(manager != null ? manager.getId() : null);
+        view.setManagerEmail(manager != null ? manager.getEmail() : null);
+        view.setManagerRole(manager != null ? manager.getRole() : null);
+        view.setManagerManagerId(manager != null ? manager.getManagerId() : null);
+        view.setManagerActive(manager != null ? manager.getActive() : null);
+        view.setManagerCreatedAt(manager != null ? manager.getCreatedAt() : null);
+
+        RequestType type = request.getType();
+        view.setTypeId(type.getId());
+        view.setTypeCode(type.getCode());
+        view.setTypeName(type.getName());
+        view.setTypeActive(type.getActive());
+
+        view.setTitle(request.getTitle());
+        view.setDescription(request.getDescription());
+        view.setAmount(request.getAmount());
+        view.setPriority(request.getPriority());
+        view.setStatus(request.getStatus());
+        view.setCreatedAt(request.getCreatedAt());
+        view.setUpdatedAt(request.getUpdatedAt());
+
+        if (existing == null) {
+            // persist rather than save: the id is assigned, so save() would merge and re-select the row
+            entityManager.persist(view);
+        }
+    }
+
+    /**
+     * Copies only the status and update time, for transitions that leave every other column as is.
+     * Avoids loading the row and the request's parties.
+     */
+    @Transactional
+    public void projectStatus(Request request) {
+        requestListViewRepository.updateStatus(request.getId(), request.getStatus(), request.getUpdatedAt());
+    }
+
+    @Transactional
+    public void projectStatuses(Collection<Long> requestIds, Request.Status status, LocalDateTime updatedAt) {
+        requestListViewRepository.updateStatuses(requestIds, status, updatedAt);
+    }
+
+    @Transactional
+    public void projectType(RequestType requestType) {
+        requestListViewRepository.updateType(requestType.getId(), requestType.getCode(), requestType.getName(),
+                requestType.getActive());
+    }
+
+    @Transactional
+    public void projectUser(User user) {
+        requestListViewRepository.updateRequester(user.getId(), user.getEmail(), user.getRole(), user.getManagerId(),
+                user.getActive());
+        requestListViewRepository.updateManager(user.getId(), user.getEmail(), user.getRole(), user.getManagerId(),
+                user.getActive());
+    }
+
+    /**
+     * Regenerates the whole read model from the write tables and returns the number of rows.
+     */
+    @Transactional
+    public int rebuild() {
+        requestListViewRepository.deleteAllRows();
+        return requestListViewRepository.insertAllFromRequests();
+    }
+}
@@ -1,73 +1,196 @@
 package com.opsrequests.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.opsrequests.dto.request.*;
 import com.opsrequests.dto.response.*;
 import com.opsrequests.entity.*;
 import com.opsrequests.entity.Request;
+import com.opsrequests.entity.Request.Priority;
 import com.opsrequests.entity.Request.Status;
 import com.opsrequests.entity.RequestAuditEvent.EventType;
 import com.opsrequests.exception.BadRequestException;
+import com.opsrequests.exception.ConflictException;
 import com.opsrequests.exception.ResourceNotFoundException;
 import com.opsrequests.exception.UnauthorizedException;
 import com.opsrequests.repository.*;
 import com.opsrequests.security.UserPrincipal;
+import com.opsrequests.service.RequestStatsService.Bucket;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * Every public method is timed as {@code request.service}, tagged with its method name.
+ */
 @Service
 @RequiredArgsConstructor
+@Timed(value = "request.service", description = "Request service calls")
 public class RequestService {
 
     private final RequestRepository requestRepository;
     private final RequestTypeRepository requestTypeRepository;
     private final UserRepository userRepository;
     private final RequestCommentRepository commentRepository;
-    private final RequestAuditEventRepository auditEventRepository;
+    private final AuditOutbox auditOutbox;
+    private final RequestReadRepository requestReadRepository;
+    private final RequestStatsService requestStatsService;
+    private final RequestReadModelService requestReadModelService;
+    private final RequestSearchIndex requestSearchIndex;
+    private final RequestEventHub requestEventHub;
+    private final RequestVersionRepository requestVersionRepository;
+    private final RequestDetailCache requestDetailCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_CHANGES_PAGE_SIZE = 500;
+
+    @Value("${requests.changes.settle-ms:1000}")
+    private long changeFeedSettleMs;
+
+    @Value("${requests.detail.timeline-size:20}")
+    private int detailTimelineSize;
 
     @Transactional(readOnly = true)
     public List<RequestResponse> getRequests(UserPrincipal userPrincipal, String statusFilter,
                                               Long typeIdFilter, String priorityFilter) {
-        List<Request> requests;
+        RequestFilter filter = listFilter(userPrincipal, statusFilter, typeIdFilter, priorityFilter);
+        return filter == null ? List.of() : requestReadRepository.findRequests(filter);
+    }
 
-        switch (userPrincipal.getRole()) {
-            case EMPLOYEE:
-                requests = requestRepository.findByRequesterId(userPrincipal.getId());
-                break;
-            case MANAGER:
-                if (statusFilter != null && !statusFilter.isEmpty()) {
-                    try {
-                        Status status = Status.valueOf(statusFilter);
-                        requests = requestRepository.findByManagerIdAndStatus(userPrincipal.getId(), status);
-                    } catch (IllegalArgumentException e) {
-                        requests = requestRepository.findByManagerId(userPrincipal.getId());
-                    }
-                } else {
-                    requests = requestRepository.findByManagerIdAndStatus(
-                            userPrincipal.getId(), Status.SUBMITTED);
-                }
-                break;
-            case ADMIN:
-                requests = requestRepository.findAll();
-                break;
-            default:
-                requests = List.of();
+    /**
+     * Version token of what {@link #getRequests} returns for the same arguments. It is scoped to the
+     * caller, since two users can see different rows with the same highest change and count.
+     */
+    @Transactional(readOnly = true)
+    public String getRequestsVersion(UserPrincipal userPrincipal, String statusFilter, Long typeIdFilter,
+                                     String priorityFilter) {
+        RequestFilter filter = listFilter(userPrincipal, statusFilter, typeIdFilter, priorityFilter);
+        return userPrincipal.getId() + "." + (filter == null ? "0.0" : requestVersionRepository.findListVersion(filter));
+    }
+
+    @Transactional(readOnly = true)
+    public RequestPageResponse getRequestPage(UserPrincipal userPrincipal, Status status, Long typeId,
+                                              Priority priority, LocalDateTime createdFrom,
+                                              LocalDateTime createdTo, String cursor, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        RequestCursor position = RequestCursor.decode(cursor);
+
+        RequestFilter.RequestFilterBuilder filter = visibleTo(userPrincipal)
+                .status(status)
+                .typeId(typeId)
+                .priority(priority)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                // Fetch one extra row to learn whether another page exists without a COUNT query
+                .limit(pageSize + 1);
+        if (position != null) {
+            filter.afterCreatedAt(position.getCreatedAt()).afterId(position.getId());
+        }
+
+        List<RequestResponse> rows = requestReadRepository.findRequests(filter.build());
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            RequestResponse last = rows.get(pageSize - 1);
+            nextCursor = new RequestCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return RequestPageResponse.builder()
+                .items(rows)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public List<RequestResponse> searchRequests(UserPrincipal userPrincipal, String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query is required");
+        }
+        int size = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        RequestFilter scope = visibleTo(userPrincipal).build();
+
+        List<Long> rankedIds = requestSearchIndex.search(query.trim(), scope, size);
+        if (rankedIds.isEmpty()) {
+            return List.of();
         }
 
-        return requests.stream()
-                .filter(r -> statusFilter == null || statusFilter.isEmpty() ||
-                        userPrincipal.getRole() == User.Role.MANAGER ||
-                        r.getStatus().name().equals(statusFilter))
-                .filter(r -> typeIdFilter == null || r.getType().getId().equals(typeIdFilter))
-                .filter(r -> priorityFilter == null || priorityFilter.isEmpty() ||
-                        r.getPriority().name().equals(priorityFilter))
-                .map(this::mapToRequestResponse)
+        Map<Long, RequestResponse> rows = requestReadRepository.findRequests(scope.toBuilder().ids(rankedIds).build())
+                .stream()
+                .collect(Collectors.toMap(RequestResponse::getId, Function.identity()));
+        return rankedIds.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Requests visible to the caller whose {@code change_seq} is past {@code since}, in change order.
+     * A change is only handed out once it is older than the settle window: sequence values are drawn
+     * when a write runs but become visible when it commits, so a slower transaction can still commit
+     * a lower value. Stopping at the first unsettled change keeps the cursor from moving past it.
+     */
+    @Transactional(readOnly = true)
+    public RequestChangesResponse getChanges(UserPrincipal userPrincipal, String since, Integer limit) {
+        long after = parseChangeCursor(since);
+        int pageSize = limit == null ? MAX_CHANGES_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_CHANGES_PAGE_SIZE));
+
+        Specification<Request> spec = RequestSpecifications.matching(visibleTo(userPrincipal).build())
+                .and(RequestSpecifications.changedAfter(after));
+        List<Request> rows = requestRepository.findBy(spec, q -> q.sortBy(Sort.by("changeSeq"))
+                .project("requester", "manager", "type")
+                .limit(pageSize + 1)
+                .all());
+
+        boolean hasMore = rows.size() > pageSize;
+        LocalDateTime settled = LocalDateTime.now().minus(changeFeedSettleMs, ChronoUnit.MILLIS);
+        List<RequestResponse> items = new ArrayList<>();
+        long cursor = after;
+        for (Request row : rows.subList(0, Math.min(rows.size(), pageSize))) {
+            if (!row.getChangedAt().isBefore(settled)) {
+                hasMore = false;
+                break;
+            }
+            items.add(ResponseMapper.toRequestResponse(row));
+            cursor = row.getChangeSeq();
+        }
+
+        return RequestChangesResponse.builder()
+                .items(items)
+                .cursor(String.valueOf(cursor))
+                .hasMore(hasMore)
+                .build();
+    }
+
+    public RequestStatsResponse getRequestStats(UserPrincipal userPrincipal) {
+        return requestStatsService.getStats(userPrincipal);
+    }
+
+    @Transactional
+    public int rebuildReadModel() {
+        return requestReadModelService.rebuild();
+    }
+
     @Transactional
     public RequestResponse createRequest(CreateRequestRequest request, UserPrincipal userPrincipal) {
         RequestType requestType = requestTypeRepository.findById(request.getTypeId())
@@ -95,45 +218,136 @@ public class RequestService {
         newRequest = requestRepository.save(newRequest);
 
         createAuditEvent(newRequest, requester, EventType.CREATED, null, Status.SUBMITTED.name(), null);
+        // Sequence ids defer the inserts; the read-model row references the request, so write it first
+        requestRepository.flush();
+        requestStatsService.recordCreated(newRequest);
+        requestReadModelService.project(newRequest);
+        requestSearchIndex.indexRequest(newRequest);
+        changed(newRequest, RequestEventResponse.Type.REQUEST_ASSIGNED, requester.getId());
+
+        return ResponseMapper.toRequestResponse(newRequest);
+    }
 
-        return mapToRequestResponse(newRequest);
+    /**
+     * The request detail as JSON with its version token, served from {@link RequestDetailCache}. A
+     * miss checks the caller's scope with the version query before building the detail; a hit
+     * checks it against the cached requester and manager. Not transactional, so a hit needs no
+     * connection and callers waiting on another caller's load do not hold one.
+     */
+    public RequestDetailCache.Entry getRequestDetailJson(Long id, UserPrincipal userPrincipal) {
+        RequestFilter scope = visibleTo(userPrincipal).build();
+        RequestDetailCache.Entry entry = requestDetailCache.get(id, () -> transactionTemplate.execute(status -> {
+            String version = requestVersionRepository.findDetailVersion(id, scope)
+                    .orElseThrow(() -> notVisible(id));
+            RequestDetailResponse detail = findRequestDetail(id, RequestFilter.builder().build())
+                    .orElseThrow(() -> new ResourceNotFoundException("Request not found"));
+            try {
+                return new RequestDetailCache.Entry(version, objectMapper.writeValueAsBytes(detail),
+                        detail.getRequester().getId(),
+                        detail.getManager() != null ? detail.getManager().getId() : null);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Could not render request " + id, e);
+            }
+        }));
+
+        if (!scope.admits(entry.requesterId(), entry.managerId())) {
+            throw new UnauthorizedException("Access denied");
+        }
+        return entry;
     }
 
+    /**
+     * Returns the request with the latest {@code requests.detail.timeline-size} comments and audit
+     * events; the totals are only counted when there are more than that.
+     */
     @Transactional(readOnly = true)
     public RequestDetailResponse getRequestDetail(Long id, UserPrincipal userPrincipal) {
-        Request request = requestRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Request not found"));
+        return findRequestDetail(id, visibleTo(userPrincipal).build()).orElseThrow(() -> notVisible(id));
+    }
+
+    private Optional<RequestDetailResponse> findRequestDetail(Long id, RequestFilter scope) {
+        Optional<RequestDetailResponse> found = requestReadRepository.findRequestDetail(id, scope);
+        if (found.isEmpty()) {
+            return found;
+        }
+        RequestDetailResponse detail = found.get();
+
+        List<CommentResponse> comments = requestReadRepository.findComments(id, null, null, detailTimelineSize + 1);
+        if (comments.size() > detailTimelineSize) {
+            comments = comments.subList(0, detailTimelineSize);
+            CommentResponse oldest = comments.get(detailTimelineSize - 1);
+            detail.setCommentCount(requestReadRepository.countComments(id));
+            detail.setCommentsCursor(new RequestCursor(oldest.getCreatedAt(), oldest.getId()).encode());
+        } else {
+            detail.setCommentCount(comments.size());
+        }
+        detail.setComments(chronological(comments));
+
+        List<AuditEventResponse> auditEvents = requestReadRepository.findAuditEvents(id, null, null,
+                detailTimelineSize + 1);
+        if (auditEvents.size() > detailTimelineSize) {
+            auditEvents = auditEvents.subList(0, detailTimelineSize);
+            AuditEventResponse oldest = auditEvents.get(detailTimelineSize - 1);
+            detail.setAuditEventCount(requestReadRepository.countAuditEvents(id));
+            detail.setAuditEventsCursor(new RequestCursor(oldest.getCreatedAt(), oldest.getId()).encode());
+        } else {
+            detail.setAuditEventCount(auditEvents.size());
+        }
+        detail.setAuditEvents(chronological(auditEvents));
 
-        validateAccess(request, userPrincipal);
+        return found;
+    }
 
-        List<CommentResponse> comments = commentRepository.findByRequestIdOrderByCreatedAtAsc(id).stream()
-                .map(this::mapToCommentResponse)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CommentPageResponse getComments(Long id, UserPrincipal userPrincipal, String cursor, Integer limit) {
+        requireVisible(id, userPrincipal);
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        RequestCursor position = RequestCursor.decode(cursor);
+
+        List<CommentResponse> rows = position == null
+                ? requestReadRepository.findComments(id, null, null, pageSize + 1)
+                : requestReadRepository.findComments(id, position.getCreatedAt(), position.getId(), pageSize + 1);
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            CommentResponse last = rows.get(pageSize - 1);
+            nextCursor = new RequestCursor(last.getCreatedAt(), last.getId()).encode();
+        }
 
-        List<AuditEventResponse> auditEvents = auditEventRepository.findByRequestIdOrderByCreatedAtAsc(id).stream()
-                .map(this::mapToAuditEventResponse)
-                .collect(Collectors.toList());
+        return CommentPageResponse.builder()
+                .items(rows)
+                .nextCursor(nextCursor)
+                .build();
+    }
 
-        return RequestDetailResponse.builder()
-                .id(request.getId())
-                .requester(mapToUserResponse(request.getRequester()))
-                .manager(request.getManager() != null ? mapToUserResponse(request.getManager()) : null)
-                .type(mapToRequestTypeResponse(request.getType()))
-                .title(request.getTitle())
-                .description(request.getDescription())
-                .amount(request.getAmount())
-                .priority(request.getPriority())
-                .status(request.getStatus())
-                .createdAt(request.getCreatedAt())
-                .updatedAt(request.getUpdatedAt())
-                .comments(comments)
-                .auditEvents(auditEvents)
+    @Transactional(readOnly = true)
+    public AuditEventPageResponse getAuditEvents(Long id, UserPrincipal userPrincipal, String cursor,
+                                                 Integer limit) {
+        requireVisible(id, userPrincipal);
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        RequestCursor position = RequestCursor.decode(cursor);
+
+        List<AuditEventResponse> rows = position == null
+                ? requestReadRepository.findAuditEvents(id, null, null, pageSize + 1)
+                : requestReadRepository.findAuditEvents(id, position.getCreatedAt(), position.getId(), pageSize + 1);
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            AuditEventResponse last = rows.get(pageSize - 1);
+            nextCursor = new RequestCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return AuditEventPageResponse.builder()
+                .items(rows)
+                .nextCursor(nextCursor)
                 .build();
     }
 
     @Transactional
     public RequestResponse updateRequest(Long id, UpdateRequestRequest request, UserPrincipal userPrincipal) {
-        Request existingRequest = requestRepository.findById(id)
+        Request existingRequest = requestRepository.findWithPartiesById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Request not found"));
 
         if (!existingRequest.getRequester().getId().equals(userPrincipal.getId())) {
@@ -147,15 +361,21 @@ public class RequestService {
         RequestType requestType = requestTypeRepository.findById(request.getTypeId())
                 .orElseThrow(() -> new ResourceNotFoundException("Request type not found"));
 
+        Bucket before = Bucket.of(existingRequest);
         existingRequest.setType(requestType);
         existingRequest.setTitle(request.getTitle());
         existingRequest.setDescription(request.getDescription());
         existingRequest.setAmount(request.getAmount());
         existingRequest.setPriority(request.getPriority());
 
-        existingRequest = requestRepository.save(existingRequest);
+        existingRequest = requestRepository.saveAndFlush(existingRequest);
+        requestRepository.markChanged(existingRequest.getId(), existingRequest.getUpdatedAt());
+        requestStatsService.recordChanged(existingRequest, before);
+        requestReadModelService.project(existingRequest);
+        requestSearchIndex.indexRequest(existingRequest);
+        changed(existingRequest, RequestEventResponse.Type.REQUEST_UPDATED, userPrincipal.getId());
 
-        return mapToRequestResponse(existingRequest);
+        return ResponseMapper.toRequestResponse(existingRequest);
     }
 
     @Transactional
@@ -171,56 +391,27 @@ public class RequestService {
             throw new BadRequestException("Can only cancel requests in SUBMITTED status");
         }
 
-        Status oldStatus = request.getStatus();
-        request.setStatus(Status.CANCELLED);
-        requestRepository.save(request);
-
-        User actor = userRepository.findById(userPrincipal.getId()).orElseThrow();
-        createAuditEvent(request, actor, EventType.CANCELLED, oldStatus.name(), Status.CANCELLED.name(), null);
+        transition(request, Status.CANCELLED, EventType.CANCELLED, null, null, userPrincipal);
     }
 
     @Transactional
     public void approveRequest(Long id, ApproveRejectRequest request, UserPrincipal userPrincipal) {
-        Request existingRequest = requestRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Request not found"));
-
-        validateManagerAccess(existingRequest, userPrincipal);
-
-        if (!existingRequest.getStatus().equals(Status.SUBMITTED)) {
-            throw new BadRequestException("Can only approve requests in SUBMITTED status");
-        }
-
-        Status oldStatus = existingRequest.getStatus();
-        existingRequest.setStatus(Status.APPROVED);
-        requestRepository.save(existingRequest);
-
-        User actor = userRepository.findById(userPrincipal.getId()).orElseThrow();
-        createAuditEvent(existingRequest, actor, EventType.APPROVED, oldStatus.name(),
-                Status.APPROVED.name(), request.getComment());
-
-        addComment(id, request.getComment(), userPrincipal);
+        decide(id, Status.APPROVED, EventType.APPROVED, request.getComment(), userPrincipal);
     }
 
     @Transactional
     public void rejectRequest(Long id, ApproveRejectRequest request, UserPrincipal userPrincipal) {
-        Request existingRequest = requestRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Request not found"));
-
-        validateManagerAccess(existingRequest, userPrincipal);
-
-        if (!existingRequest.getStatus().equals(Status.SUBMITTED)) {
-            throw new BadRequestException("Can only reject requests in SUBMITTED status");
-        }
-
-        Status oldStatus = existingRequest.getStatus();
-        existingRequest.setStatus(Status.REJECTED);
-        requestRepository.save(existingRequest);
+        decide(id, Status.REJECTED, EventType.REJECTED, request.getComment(), userPrincipal);
+    }
 
-        User actor = userRepository.findById(userPrincipal.getId()).orElseThrow();
-        createAuditEvent(existingRequest, actor, EventType.REJECTED, oldStatus.name(),
-                Status.REJECTED.name(), request.getComment());
+    @Transactional
+    public BulkDecisionResponse bulkApprove(BulkDecisionRequest request, UserPrincipal userPrincipal) {
+        return bulkDecide(request, Status.APPROVED, EventType.APPROVED, userPrincipal);
+    }
 
-        addComment(id, request.getComment(), userPrincipal);
+    @Transactional
+    public BulkDecisionResponse bulkReject(BulkDecisionRequest request, UserPrincipal userPrincipal) {
+        return bulkDecide(request, Status.REJECTED, EventType.REJECTED, userPrincipal);
     }
 
     @Transactional
@@ -230,13 +421,8 @@ public class RequestService {
 
         validateStatusTransition(existingRequest.getStatus(), request.getStatus());
 
-        Status oldStatus = existingRequest.getStatus();
-        existingRequest.setStatus(request.getStatus());
-        requestRepository.save(existingRequest);
-
-        User actor = userRepository.findById(userPrincipal.getId()).orElseThrow();
-        createAuditEvent(existingRequest, actor, EventType.STATUS_CHANGED, oldStatus.name(),
-                request.getStatus().name(), request.getNote());
+        transition(existingRequest, request.getStatus(), EventType.STATUS_CHANGED, request.getNote(), null,
+                userPrincipal);
     }
 
     @Transactional
@@ -245,10 +431,10 @@ public class RequestService {
     }
 
     private CommentResponse addComment(Long id, String commentText, UserPrincipal userPrincipal) {
-        Request request = requestRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Request not found"));
-
-        validateAccess(request, userPrincipal);
+        // Loads the request row only; its parties stay unloaded references for the event recipients
+        Request request = requestRepository.findOne(RequestSpecifications.matching(
+                        visibleTo(userPrincipal).ids(List.of(id)).build()))
+                .orElseThrow(() -> notVisible(id));
 
         User author = userRepository.findById(userPrincipal.getId()).orElseThrow();
 
@@ -259,43 +445,303 @@ public class RequestService {
                 .build();
 
         comment = commentRepository.save(comment);
+        requestSearchIndex.indexComment(comment);
 
         createAuditEvent(request, author, EventType.COMMENT_ADDED, null, null, commentText);
+        requestRepository.markChanged(id, LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        changed(request, RequestEventResponse.Type.COMMENT_ADDED, author.getId());
 
-        return mapToCommentResponse(comment);
+        return ResponseMapper.toCommentResponse(comment);
     }
 
-    private void createAuditEvent(Request request, User actor, EventType eventType,
-                                   String fromStatus, String toStatus, String note) {
-        RequestAuditEvent event = RequestAuditEvent.builder()
-                .request(request)
-                .actor(actor)
-                .eventType(eventType)
-                .fromStatus(fromStatus)
-                .toStatus(toStatus)
-                .note(note)
+    private void decide(Long id, Status decision, EventType eventType, String comment, UserPrincipal userPrincipal) {
+        Request existingRequest = requestRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Request not found"));
+
+        validateManagerAccess(existingRequest, userPrincipal);
+
+        if (!existingRequest.getStatus().equals(Status.SUBMITTED)) {
+            String verb = decision == Status.APPROVED ? "approve" : "reject";
+            throw new BadRequestException("Can only " + verb + " requests in SUBMITTED status");
+        }
+
+        transition(existingRequest, decision, eventType, comment, comment, userPrincipal);
+    }
+
+    /**
+     * Decides many requests at once: one select checks access and status for the whole set, one
+     * conditional statement updates the eligible rows and the audit events and comments are flushed
+     * as batches. No rows are locked beyond the update; eligible requests that a concurrent writer
+     * moved first are reported as conflicts. Ineligible ids are reported per id and do not fail the
+     * others.
+     */
+    private BulkDecisionResponse bulkDecide(BulkDecisionRequest request, Status decision, EventType eventType,
+                                            UserPrincipal userPrincipal) {
+        if (userPrincipal.getRole() != User.Role.ADMIN && userPrincipal.getRole() != User.Role.MANAGER) {
+            throw new UnauthorizedException("Only managers can approve/reject requests");
+        }
+
+        List<Long> ids = request.getIds().stream().distinct().toList();
+        Map<Long, Request> loaded = requestRepository.findAllByIdIn(ids).stream()
+                .collect(Collectors.toMap(Request::getId, Function.identity()));
+
+        String verb = decision == Status.APPROVED ? "approve" : "reject";
+        Map<Long, String> errors = new HashMap<>();
+        List<Request> eligible = new ArrayList<>();
+        for (Long id : ids) {
+            Request existing = loaded.get(id);
+            if (existing == null) {
+                errors.put(id, "Request not found");
+                continue;
+            }
+            try {
+                validateManagerAccess(existing, userPrincipal);
+            } catch (UnauthorizedException e) {
+                errors.put(id, e.getMessage());
+                continue;
+            }
+            if (!existing.getStatus().equals(Status.SUBMITTED)) {
+                errors.put(id, "Can only " + verb + " requests in SUBMITTED status");
+                continue;
+            }
+            eligible.add(existing);
+        }
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        if (!eligible.isEmpty() && requestRepository.updateStatuses(eligible.stream().map(Request::getId).toList(),
+                Status.SUBMITTED, decision, now) < eligible.size()) {
+            eligible = movedByThisUpdate(eligible, decision, now, errors);
+        }
+
+        if (!eligible.isEmpty()) {
+            requestReadModelService.projectStatuses(eligible.stream().map(Request::getId).toList(), decision, now);
+
+            User actor = userRepository.getReferenceById(userPrincipal.getId());
+            for (Request decided : eligible) {
+                // Detached by the bulk update: inserts go through a reference, and the setters below
+                // only feed the stats and search index
+                Request reference = requestRepository.getReferenceById(decided.getId());
+                createAuditEvent(reference, actor, eventType, Status.SUBMITTED.name(), decision.name(),
+                        request.getComment());
+                commentRepository.save(RequestComment.builder()
+                        .request(reference)
+                        .author(actor)
+                        .comment(request.getComment())
+                        .build());
+                createAuditEvent(reference, actor, EventType.COMMENT_ADDED, null, null, request.getComment());
+
+                Bucket before = Bucket.of(decided);
+                decided.setStatus(decision);
+                decided.setUpdatedAt(now);
+                requestStatsService.recordChanged(decided, before);
+                requestSearchIndex.indexComment(RequestComment.builder()
+                        .request(decided)
+                        .comment(request.getComment())
+                        .build());
+                changed(decided, RequestEventResponse.Type.STATUS_CHANGED, actor.getId());
+            }
+            // Pooled sequence ids let Hibernate send the audit events and comments as JDBC batches
+            requestRepository.flush();
+        }
+
+        List<BulkDecisionResponse.Result> results = ids.stream()
+                .map(id -> BulkDecisionResponse.Result.builder()
+                        .id(id)
+                        .success(!errors.containsKey(id))
+                        .error(errors.get(id))
+                        .build())
+                .toList();
+
+        return BulkDecisionResponse.builder()
+                .succeeded(ids.size() - errors.size())
+                .failed(errors.size())
+                .results(results)
                 .build();
+    }
 
-        auditEventRepository.save(event);
+    /**
+     * After a bulk update that skipped some rows, keeps the requests it moved: those now in
+     * {@code decision} with the update's timestamp. The others are reported as conflicts.
+     */
+    private List<Request> movedByThisUpdate(List<Request> eligible, Status decision, LocalDateTime updatedAt,
+                                            Map<Long, String> errors) {
+        Map<Long, Request> current = requestRepository.findAllByIdIn(
+                        eligible.stream().map(Request::getId).toList()).stream()
+                .collect(Collectors.toMap(Request::getId, Function.identity()));
+
+        List<Request> moved = new ArrayList<>();
+        for (Request loaded : eligible) {
+            Request now = current.get(loaded.getId());
+            if (now == null) {
+                errors.put(loaded.getId(), "Request not found");
+            } else if (now.getStatus() == decision && updatedAt.equals(now.getUpdatedAt())) {
+                moved.add(loaded);
+            } else {
+                errors.put(loaded.getId(), "Request was changed by someone else and is now " + now.getStatus());
+            }
+        }
+        return moved;
     }
 
-    private void validateAccess(Request request, UserPrincipal userPrincipal) {
-        if (userPrincipal.getRole().equals(User.Role.ADMIN)) {
-            return;
+    /**
+     * Moves an already loaded request to {@code newStatus} with a conditional update that only
+     * applies while the request is still in the status that was read, so of two concurrent
+     * transitions exactly one wins and the other gets a 409 with the current state. The actor is
+     * referenced by id rather than loaded.
+     */
+    private void transition(Request request, Status newStatus, EventType eventType, String note,
+                            String comment, UserPrincipal userPrincipal) {
+        Bucket before = Bucket.of(request);
+        Status oldStatus = request.getStatus();
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        if (requestRepository.updateStatus(request.getId(), oldStatus, newStatus, now) == 0) {
+            throw conflict(request.getId());
+        }
+        // Detached by the update: these setters only feed the stats, read model and search index
+        request.setStatus(newStatus);
+        request.setUpdatedAt(now);
+
+        User actor = userRepository.getReferenceById(userPrincipal.getId());
+        createAuditEvent(request, actor, eventType, oldStatus.name(), newStatus.name(), note);
+
+        RequestComment savedComment = null;
+        if (comment != null) {
+            savedComment = commentRepository.save(RequestComment.builder()
+                    .request(request)
+                    .author(actor)
+                    .comment(comment)
+                    .build());
+            createAuditEvent(request, actor, EventType.COMMENT_ADDED, null, null, comment);
         }
 
-        if (userPrincipal.getRole().equals(User.Role.MANAGER)) {
-            if (request.getManager() != null &&
-                    request.getManager().getId().equals(userPrincipal.getId())) {
-                return;
+        requestStatsService.recordChanged(request, before);
+        requestReadModelService.projectStatus(request);
+        if (savedComment != null) {
+            requestSearchIndex.indexComment(savedComment);
+        }
+        changed(request, RequestEventResponse.Type.STATUS_CHANGED, actor.getId());
+    }
+
+    private ConflictException conflict(Long id) {
+        Request current = requestRepository.findWithPartiesById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Request not found"));
+        return new ConflictException("Request was changed by someone else and is now " + current.getStatus(),
+                ResponseMapper.toRequestResponse(current));
+    }
+
+    /**
+     * Every write to a request ends here: its cached detail is dropped and the event is pushed.
+     */
+    private void changed(Request request, RequestEventResponse.Type type, Long actorId) {
+        requestDetailCache.evict(request.getId());
+        requestEventHub.publish(RequestEventResponse.builder()
+                        .type(type)
+                        .requestId(request.getId())
+                        .status(request.getStatus())
+                        .actorId(actorId)
+                        .occurredAt(LocalDateTime.now())
+                        .build(),
+                request.getRequester().getId(),
+                request.getManager() != null ? request.getManager().getId() : null);
+    }
+
+    private void createAuditEvent(Request request, User actor, EventType eventType,
+                                   String fromStatus, String toStatus, String note) {
+        auditOutbox.record(request.getId(), actor.getId(), eventType, fromStatus, toStatus, note);
+    }
+
+    /**
+     * Criteria for the plain request list, or null when an unknown status or priority means nothing
+     * can match.
+     */
+    private RequestFilter listFilter(UserPrincipal userPrincipal, String statusFilter, Long typeIdFilter,
+                                     String priorityFilter) {
+        RequestFilter.RequestFilterBuilder filter = visibleTo(userPrincipal).typeId(typeIdFilter);
+        boolean hasStatusFilter = statusFilter != null && !statusFilter.isEmpty();
+        Status status = hasStatusFilter ? parseEnum(Status.class, statusFilter) : null;
+
+        if (userPrincipal.getRole() == User.Role.MANAGER) {
+            // Managers default to their approval queue; an unknown status shows all assigned requests
+            filter.managerId(userPrincipal.getId()).status(hasStatusFilter ? status : Status.SUBMITTED);
+        } else if (hasStatusFilter) {
+            if (status == null) {
+                return null;
             }
+            filter.status(status);
         }
 
-        if (!request.getRequester().getId().equals(userPrincipal.getId())) {
-            throw new UnauthorizedException("Access denied");
+        if (priorityFilter != null && !priorityFilter.isEmpty()) {
+            Priority priority = parseEnum(Priority.class, priorityFilter);
+            if (priority == null) {
+                return null;
+            }
+            filter.priority(priority);
+        }
+
+        return filter.build();
+    }
+
+    /**
+     * The one visibility rule for reads: employees see what they submitted, managers also what is
+     * assigned to them, admins everything. It is applied inside the queries, so rows the caller may
+     * not see are never loaded.
+     */
+    private RequestFilter.RequestFilterBuilder visibleTo(UserPrincipal userPrincipal) {
+        switch (userPrincipal.getRole()) {
+            case EMPLOYEE:
+                return RequestFilter.builder().requesterId(userPrincipal.getId());
+            case MANAGER:
+                return RequestFilter.builder().participantId(userPrincipal.getId());
+            case ADMIN:
+                return RequestFilter.builder();
+            default:
+                throw new UnauthorizedException("Access denied");
         }
     }
 
+    private static long parseChangeCursor(String since) {
+        if (since == null || since.isEmpty()) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(since);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    private static <T> List<T> chronological(List<T> newestFirst) {
+        List<T> rows = new ArrayList<>(newestFirst);
+        Collections.reverse(rows);
+        return rows;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+        try {
+            return Enum.valueOf(type, value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * For a request the scoped lookup did not return: a primary key existence check tells a missing
+     * request from one the caller may not see.
+     */
+    private void requireVisible(Long id, UserPrincipal userPrincipal) {
+        if (!requestRepository.exists(RequestSpecifications.matching(
+                visibleTo(userPrincipal).ids(List.of(id)).build()))) {
+            throw notVisible(id);
+        }
+    }
+
+    private RuntimeException notVisible(Long id) {
+        return requestRepository.existsById(id)
+                ? new UnauthorizedException("Access denied")
+                : new ResourceNotFoundException("Request not found");
+    }
+
     private void validateManagerAccess(Request request, UserPrincipal userPrincipal) {
         if (userPrincipal.getRole().equals(User.Role.ADMIN)) {
             return;
@@ -320,61 +766,4 @@ public class RequestService {
         }
         throw new BadRequestException("Invalid status transition from " + currentStatus + " to " + newStatus);
     }
-
-    private RequestResponse mapToRequestResponse(Request request) {
-        return RequestResponse.builder()
-                .id(request.getId())
-                .requester(mapToUserResponse(request.getRequester()))
-                .manager(request.getManager() != null ? mapToUserResponse(request.getManager()) : null)
-                .type(mapToRequestTypeResponse(request.getType()))
-                .title(request.getTitle())
-                .description(request.getDescription())
-                .amount(request.getAmount())
-                .priority(request.getPriority())
-                .status(request.getStatus())
-                .createdAt(request.getCreatedAt())
-                .updatedAt(request.getUpdatedAt())
-                .build();
-    }
-
-    private UserResponse mapToUserResponse(User user) {
-        return UserResponse.builder()
-                .id(user.getId())
-                .email(user.getEmail())
-                .role(user.getRole())
-                .managerId(user.getManagerId())
-                .active(user.getActive())
-                .createdAt(user.getCreatedAt())
-                .build();
-    }
-
-    private RequestTypeResponse mapToRequestTypeResponse(RequestType requestType) {
-        return RequestTypeResponse.builder()
-                .id(requestType.getId())
-                .code(requestType.getCode())
-                .name(requestType.getName())
-                .active(requestType.getActive())
-                .build();
-    }
-
-    private CommentResponse mapToCommentResponse(RequestComment comment) {
-        return CommentResponse.builder()
-                .id(comment.getId())
-                .author(mapToUserResponse(comment.getAuthor()))
-                .comment(comment.getComment())
-                .createdAt(comment.getCreatedAt())
-                .build();
-    }
-
-    private AuditEventResponse mapToAuditEventResponse(RequestAuditEvent event) {
-        return AuditEventResponse.builder()
-                .id(event.getId())
-                .actor(mapToUserResponse(event.getActor()))
-                .eventType(event.getEventType())
-                .fromStatus(event.getFromStatus())
-                .toStatus(event.getToStatus())
-                .note(event.getNote())
-                .createdAt(event.getCreatedAt())
-                .build();
-    }
 }
@@ -0,0 +1,146 @@
+package com.opsrequests.service;
+
+import com.opsrequests.dto.response.RequestStatsResponse;
+import com.opsrequests.entity.Request;
+import com.opsrequests.entity.Request.Priority;
+import com.opsrequests.entity.Request.Status;
+import com.opsrequests.repository.RequestCountRow;
+import com.opsrequests.repository.RequestRepository;
+import com.opsrequests.security.UserPrincipal;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dashboard counters by status, type and priority, kept per requester, per manager and globally.
+ * A manager's stats cover the same requests as their list: the ones they submitted plus the ones
+ * assigned to them. Counters are rebuilt from the database on startup and adjusted when a request transaction
+ * commits, so reading them costs O(buckets) instead of O(rows). They only see writes made by this
+ * instance.
+ */
+@Service
+@RequiredArgsConstructor
+public class RequestStatsService {
+
+    private final RequestRepository requestRepository;
+
+    private final Map<Bucket, LongAdder> global = new ConcurrentHashMap<>();
+    private final Map<Long, Map<Bucket, LongAdder>> byRequester = new ConcurrentHashMap<>();
+    private final Map<Long, Map<Bucket, LongAdder>> byManager = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void rebuild() {
+        global.clear();
+        byRequester.clear();
+        byManager.clear();
+        for (RequestCountRow row : requestRepository.countByScopeAndBucket()) {
+            apply(row.getRequesterId(), row.getManagerId(),
+                    new Bucket(row.getStatus(), row.getTypeId(), row.getPriority()), row.getTotal());
+        }
+    }
+
+    public RequestStatsResponse getStats(UserPrincipal userPrincipal) {
+        List<Map<Bucket, LongAdder>> scopes;
+        switch (userPrincipal.getRole()) {
+            case EMPLOYEE:
+                scopes = List.of(byRequester.getOrDefault(userPrincipal.getId(), Map.of()));
+                break;
+            case MANAGER:
+                // A request's manager is never its requester, so the two scopes do not overlap
+                scopes = List.of(byRequester.getOrDefault(userPrincipal.getId(), Map.of()),
+                        byManager.getOrDefault(userPrincipal.getId(), Map.of()));
+                break;
+            default:
+                scopes = List.of(global);
+        }
+
+        long total = 0;
+        Map<Status, Long> byStatus = new EnumMap<>(Status.class);
+        Map<Long, Long> byType = new TreeMap<>();
+        Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+        for (Map<Bucket, LongAdder> counters : scopes) {
+            for (Map.Entry<Bucket, LongAdder> entry : counters.entrySet()) {
+                long count = entry.getValue().sum();
+                if (count == 0) {
+                    continue;
+                }
+                Bucket bucket = entry.getKey();
+                total += count;
+                byStatus.merge(bucket.status(), count, Long::sum);
+                byType.merge(bucket.typeId(), count, Long::sum);
+                byPriority.merge(bucket.priority(), count, Long::sum);
+            }
+        }
+
+        return RequestStatsResponse.builder()
+                .total(total)
+                .byStatus(byStatus)
+                .byType(byType)
+                .byPriority(byPriority)
+                .build();
+    }
+
+    public void recordCreated(Request request) {
+        Bucket after = Bucket.of(request);
+        Long requesterId = request.getRequester().getId();
+        Long managerId = request.getManager() != null ? request.getManager().getId() : null;
+        afterCommit(() -> apply(requesterId, managerId, after, 1));
+    }
+
+    /**
+     * Moves a request between buckets; {@code before} is the bucket it was counted in when loaded.
+     */
+    public void recordChanged(Request request, Bucket before) {
+        Bucket after = Bucket.of(request);
+        if (before.equals(after)) {
+            return;
+        }
+        Long requesterId = request.getRequester().getId();
+        Long managerId = request.getManager() != null ? request.getManager().getId() : null;
+        afterCommit(() -> {
+            apply(requesterId, managerId, before, -1);
+            apply(requesterId, managerId, after, 1);
+        });
+    }
+
+    private void apply(Long requesterId, Long managerId, Bucket bucket, long delta) {
+        increment(global, bucket, delta);
+        increment(byRequester.computeIfAbsent(requesterId, id -> new ConcurrentHashMap<>()), bucket, delta);
+        if (managerId != null) {
+            increment(byManager.computeIfAbsent(managerId, id -> new ConcurrentHashMap<>()), bucket, delta);
+        }
+    }
+
+    private static void increment(Map<Bucket, LongAdder> counters, Bucket bucket, long delta) {
+        counters.computeIfAbsent(bucket, b -> new LongAdder()).add(delta);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    public record Bucket(Status status, Long typeId, Priority priority) {
+
+        public static Bucket of(Request request) {
+            return new Bucket(request.getStatus(), request.getType().getId(), request.getPriority());
+        }
+    }
+}
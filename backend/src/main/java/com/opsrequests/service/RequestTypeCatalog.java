@@ -0,0 +1,83 @@
+package com.opsrequests.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opsrequests.dto.response.RequestTypeResponse;
+import com.opsrequests.dto.response.ResponseMapper;
+import com.opsrequests.repository.RequestTypeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory snapshot of the active request types together with their pre-rendered JSON and a
+ * strong ETag derived from those bytes. Loaded on first use and swapped atomically after every
+ * committed catalog change.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestTypeCatalog {
+
+    private final RequestTypeRepository requestTypeRepository;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    public Snapshot current() {
+        Snapshot current = snapshot.get();
+        return current != null ? current : refresh();
+    }
+
+    /**
+     * Reloads the catalog once the surrounding transaction commits, or immediately outside one.
+     */
+    public void refreshAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refresh();
+            }
+        });
+    }
+
+    /**
+     * Serialized so that a slower, older reload cannot overwrite a newer snapshot.
+     */
+    public synchronized Snapshot refresh() {
+        List<RequestTypeResponse> types = requestTypeRepository.findByActiveTrue().stream()
+                .map(ResponseMapper::toRequestTypeResponse)
+                .collect(Collectors.toList());
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(types);
+            Snapshot next = new Snapshot(List.copyOf(types), json, etag(json));
+            snapshot.set(next);
+            return next;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not render request type catalog", e);
+        }
+    }
+
+    private static String etag(byte[] json) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public record Snapshot(List<RequestTypeResponse> types, byte[] json, String etag) {
+    }
+}
@@ -6,24 +6,32 @@ import com.opsrequests.dto.response.RequestTypeResponse;
 import com.opsrequests.entity.RequestType;
 import com.opsrequests.exception.BadRequestException;
 import com.opsrequests.exception.ResourceNotFoundException;
+import com.opsrequests.repository.RequestRepository;
 import com.opsrequests.repository.RequestTypeRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class RequestTypeService {
 
     private final RequestTypeRepository requestTypeRepository;
+    private final RequestRepository requestRepository;
+    private final RequestReadModelService requestReadModelService;
+    private final RequestTypeCatalog requestTypeCatalog;
+    private final RequestDetailCache requestDetailCache;
 
     public List<RequestTypeResponse> getActiveRequestTypes() {
-        return requestTypeRepository.findByActiveTrue().stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return requestTypeCatalog.current().types();
+    }
+
+    public RequestTypeCatalog.Snapshot getActiveRequestTypeCatalog() {
+        return requestTypeCatalog.current();
     }
 
     @Transactional
@@ -39,6 +47,7 @@ public class RequestTypeService {
                 .build();
 
         requestType = requestTypeRepository.save(requestType);
+        requestTypeCatalog.refreshAfterCommit();
         return mapToResponse(requestType);
     }
 
@@ -53,6 +62,10 @@ public class RequestTypeService {
         }
 
         requestType = requestTypeRepository.save(requestType);
+        requestReadModelService.projectType(requestType);
+        requestRepository.markTypeChanged(requestType.getId(), LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        requestDetailCache.evictAll();
+        requestTypeCatalog.refreshAfterCommit();
         return mapToResponse(requestType);
     }
 
@@ -63,6 +76,10 @@ public class RequestTypeService {
 
         requestType.setActive(false);
         requestTypeRepository.save(requestType);
+        requestReadModelService.projectType(requestType);
+        requestRepository.markTypeChanged(requestType.getId(), LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        requestDetailCache.evictAll();
+        requestTypeCatalog.refreshAfterCommit();
     }
 
     private RequestTypeResponse mapToResponse(RequestType requestType) {
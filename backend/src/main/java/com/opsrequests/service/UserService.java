@@ -1,11 +1,19 @@
 package com.opsrequests.service;
 
+import com.opsrequests.dto.request.UpdateUserRequest;
 import com.opsrequests.dto.response.UserResponse;
 import com.opsrequests.entity.User;
+import com.opsrequests.exception.BadRequestException;
+import com.opsrequests.exception.ResourceNotFoundException;
+import com.opsrequests.repository.RequestRepository;
 import com.opsrequests.repository.UserRepository;
+import com.opsrequests.security.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -14,6 +22,10 @@ import java.util.stream.Collectors;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final RequestRepository requestRepository;
+    private final PrincipalCache principalCache;
+    private final RequestReadModelService requestReadModelService;
+    private final RequestDetailCache requestDetailCache;
 
     public List<UserResponse> getAllUsers() {
         return userRepository.findAll().stream()
@@ -21,6 +33,33 @@ public class UserService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional
+    public UserResponse updateUser(Long id, UpdateUserRequest request) {
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        if (request.getManagerId() != null) {
+            if (request.getManagerId().equals(id) || !userRepository.existsById(request.getManagerId())) {
+                throw new BadRequestException("Invalid manager");
+            }
+            user.setManagerId(request.getManagerId());
+        }
+        if (request.getRole() != null) {
+            user.setRole(request.getRole());
+        }
+        if (request.getActive() != null) {
+            user.setActive(request.getActive());
+        }
+
+        user = userRepository.saveAndFlush(user);
+        requestReadModelService.projectUser(user);
+        requestRepository.markUserChanged(id, LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        requestDetailCache.evictAll();
+        principalCache.invalidate(id);
+
+        return mapToUserResponse(user);
+    }
+
     private UserResponse mapToUserResponse(User user) {
         return UserResponse.builder()
                 .id(user.getId())
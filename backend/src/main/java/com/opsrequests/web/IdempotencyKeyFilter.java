@@ -0,0 +1,197 @@
+package com.opsrequests.web;
+
+import com.opsrequests.exception.BadRequestException;
+import com.opsrequests.security.UserPrincipal;
+import com.opsrequests.service.IdempotencyStore;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Makes request creation and state transitions safe to retry: a {@code POST} under
+ * {@code /api/requests} that carries an {@code Idempotency-Key} header runs once per user and key,
+ * and retries get the recorded response back with {@code Idempotent-Replayed: true}. Runs after
+ * Spring Security, so keys are scoped to the authenticated user.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class IdempotencyKeyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore idempotencyStore;
+    private final HandlerExceptionResolver exceptionResolver;
+
+    public IdempotencyKeyFilter(IdempotencyStore idempotencyStore,
+                                @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver) {
+        this.idempotencyStore = idempotencyStore;
+        this.exceptionResolver = exceptionResolver;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !HttpMethod.POST.matches(request.getMethod())
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || !(path.equals("/api/requests") || path.startsWith("/api/requests/"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal principal)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            exceptionResolver.resolveException(request, response, null,
+                    new BadRequestException("Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters"));
+            return;
+        }
+
+        BufferedBodyRequest bufferedRequest = new BufferedBodyRequest(request);
+        boolean[] executed = {false};
+        IdempotencyStore.Response result;
+        try {
+            result = idempotencyStore.execute(principal.getId() + ":" + key, fingerprint(bufferedRequest),
+                    () -> {
+                        executed[0] = true;
+                        return proceed(bufferedRequest, response, filterChain);
+                    });
+        } catch (FilterChainFailure e) {
+            if (e.getCause() instanceof ServletException servletException) {
+                throw servletException;
+            }
+            throw (IOException) e.getCause();
+        } catch (RuntimeException e) {
+            exceptionResolver.resolveException(request, response, null, e);
+            return;
+        }
+
+        if (!executed[0]) {
+            replay(result, response);
+        }
+    }
+
+    private IdempotencyStore.Response proceed(HttpServletRequest request, HttpServletResponse response,
+                                              FilterChain filterChain) {
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, responseWrapper);
+            IdempotencyStore.Response recorded = new IdempotencyStore.Response(responseWrapper.getStatus(),
+                    responseWrapper.getContentType(),
+                    new String(responseWrapper.getContentAsByteArray(), StandardCharsets.UTF_8));
+            responseWrapper.copyBodyToResponse();
+            return recorded;
+        } catch (IOException | ServletException e) {
+            throw new FilterChainFailure(e);
+        }
+    }
+
+    private static void replay(IdempotencyStore.Response recorded, HttpServletResponse response) throws IOException {
+        response.setStatus(recorded.status());
+        if (recorded.contentType() != null) {
+            response.setContentType(recorded.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (recorded.body() != null) {
+            response.getOutputStream().write(recorded.body().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static String fingerprint(BufferedBodyRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + request.getRequestURI() + "\n").getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest(request.body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /** Carries checked exceptions from the filter chain through the store's supplier. */
+    private static class FilterChainFailure extends RuntimeException {
+
+        FilterChainFailure(Exception cause) {
+            super(cause);
+        }
+    }
+
+    /** Reads the body up front so it can be fingerprinted and still reach the controller. */
+    private static class BufferedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        BufferedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
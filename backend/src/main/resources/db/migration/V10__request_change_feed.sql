@@ -0,0 +1,21 @@
+-- Change feed: every write to a request draws change_seq from one sequence, so clients can ask for
+-- everything after the last value they saw; changed_at records when it was drawn. Existing rows are
+-- numbered in update order.
+CREATE SEQUENCE request_change_seq;
+
+ALTER TABLE requests ADD COLUMN change_seq BIGINT;
+ALTER TABLE requests ADD COLUMN changed_at TIMESTAMP;
+
+UPDATE requests r SET change_seq = numbered.seq, changed_at = r.updated_at
+FROM (SELECT id, nextval('request_change_seq') AS seq
+      FROM (SELECT id FROM requests ORDER BY updated_at, id) ordered) numbered
+WHERE r.id = numbered.id;
+
+ALTER TABLE requests ALTER COLUMN change_seq SET DEFAULT nextval('request_change_seq');
+ALTER TABLE requests ALTER COLUMN change_seq SET NOT NULL;
+ALTER TABLE requests ALTER COLUMN changed_at SET NOT NULL;
+
+-- One index per role scope; a manager's "submitted or assigned" scope combines the last two
+CREATE INDEX idx_requests_change_seq ON requests(change_seq);
+CREATE INDEX idx_requests_requester_change_seq ON requests(requester_id, change_seq);
+CREATE INDEX idx_requests_manager_change_seq ON requests(manager_id, change_seq);
@@ -0,0 +1,7 @@
+-- Comment and audit-event timelines are read newest first a page at a time; the composite indexes
+-- serve both the keyset range and the order, and replace the request_id-only ones
+DROP INDEX idx_request_comments_request_id;
+CREATE INDEX idx_request_comments_timeline ON request_comments(request_id, created_at DESC, id DESC);
+
+DROP INDEX idx_request_audit_events_request_id;
+CREATE INDEX idx_request_audit_events_timeline ON request_audit_events(request_id, created_at DESC, id DESC);
@@ -0,0 +1,6 @@
+-- Composite indexes backing keyset pagination on (created_at DESC, id DESC) for each role scope
+CREATE INDEX idx_requests_created_at_id ON requests(created_at DESC, id DESC);
+CREATE INDEX idx_requests_requester_created_at_id ON requests(requester_id, created_at DESC, id DESC);
+CREATE INDEX idx_requests_manager_status_created_at_id ON requests(manager_id, status, created_at DESC, id DESC);
+CREATE INDEX idx_requests_status_created_at_id ON requests(status, created_at DESC, id DESC);
+CREATE INDEX idx_requests_type_created_at_id ON requests(type_id, created_at DESC, id DESC);
@@ -0,0 +1,50 @@
+-- Denormalized read model for request listings: one row per request carrying the requester,
+-- manager and type columns a list row renders, so listings need no joins
+CREATE TABLE request_list_view (
+    request_id BIGINT PRIMARY KEY,
+    requester_id BIGINT NOT NULL,
+    requester_email VARCHAR(255) NOT NULL,
+    requester_role VARCHAR(50) NOT NULL,
+    requester_manager_id BIGINT,
+    requester_active BOOLEAN NOT NULL,
+    requester_created_at TIMESTAMP NOT NULL,
+    manager_id BIGINT,
+    manager_email VARCHAR(255),
+    manager_role VARCHAR(50),
+    manager_manager_id BIGINT,
+    manager_active BOOLEAN,
+    manager_created_at TIMESTAMP,
+    type_id BIGINT NOT NULL,
+    type_code VARCHAR(100) NOT NULL,
+    type_name VARCHAR(255) NOT NULL,
+    type_active BOOLEAN NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    amount DECIMAL(10, 2),
+    priority VARCHAR(50) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_request_list_view_request FOREIGN KEY (request_id) REFERENCES requests(id)
+);
+
+CREATE INDEX idx_request_list_view_created_at_id ON request_list_view(created_at DESC, request_id DESC);
+CREATE INDEX idx_request_list_view_requester_created_at_id ON request_list_view(requester_id, created_at DESC, request_id DESC);
+CREATE INDEX idx_request_list_view_manager_status_created_at_id ON request_list_view(manager_id, status, created_at DESC, request_id DESC);
+CREATE INDEX idx_request_list_view_status_created_at_id ON request_list_view(status, created_at DESC, request_id DESC);
+CREATE INDEX idx_request_list_view_type_id ON request_list_view(type_id);
+
+INSERT INTO request_list_view (request_id,
+    requester_id, requester_email, requester_role, requester_manager_id, requester_active, requester_created_at,
+    manager_id, manager_email, manager_role, manager_manager_id, manager_active, manager_created_at,
+    type_id, type_code, type_name, type_active,
+    title, description, amount, priority, status, created_at, updated_at)
+SELECT r.id,
+    rq.id, rq.email, rq.role, rq.manager_id, rq.active, rq.created_at,
+    mg.id, mg.email, mg.role, mg.manager_id, mg.active, mg.created_at,
+    t.id, t.code, t.name, t.active,
+    r.title, r.description, r.amount, r.priority, r.status, r.created_at, r.updated_at
+FROM requests r
+JOIN users rq ON rq.id = r.requester_id
+LEFT JOIN users mg ON mg.id = r.manager_id
+JOIN request_types t ON t.id = r.type_id;
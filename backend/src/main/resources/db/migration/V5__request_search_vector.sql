@@ -0,0 +1,40 @@
+-- Full-text search over request titles, descriptions and comments. The vector lives on requests so
+-- a search is one GIN index scan; triggers on both tables keep it current.
+ALTER TABLE requests ADD COLUMN search_vector tsvector;
+
+CREATE FUNCTION request_search_vector(p_request_id BIGINT, p_title TEXT, p_description TEXT)
+RETURNS tsvector AS $$
+    SELECT setweight(to_tsvector('english', coalesce(p_title, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(p_description, '')), 'B')
+        || setweight(to_tsvector('english', coalesce(
+               (SELECT string_agg(c.comment, ' ' ORDER BY c.id) FROM request_comments c
+                WHERE c.request_id = p_request_id), '')), 'C')
+$$ LANGUAGE sql STABLE;
+
+CREATE FUNCTION requests_search_vector_trigger() RETURNS trigger AS $$
+BEGIN
+    NEW.search_vector := request_search_vector(NEW.id, NEW.title, NEW.description);
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_requests_search_vector
+    BEFORE INSERT OR UPDATE OF title, description ON requests
+    FOR EACH ROW EXECUTE FUNCTION requests_search_vector_trigger();
+
+CREATE FUNCTION request_comments_search_vector_trigger() RETURNS trigger AS $$
+BEGIN
+    UPDATE requests r
+    SET search_vector = request_search_vector(r.id, r.title, r.description)
+    WHERE r.id = CASE WHEN TG_OP = 'DELETE' THEN OLD.request_id ELSE NEW.request_id END;
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_request_comments_search_vector
+    AFTER INSERT OR UPDATE OR DELETE ON request_comments
+    FOR EACH ROW EXECUTE FUNCTION request_comments_search_vector_trigger();
+
+UPDATE requests SET search_vector = request_search_vector(id, title, description);
+
+CREATE INDEX idx_requests_search_vector ON requests USING GIN (search_vector);
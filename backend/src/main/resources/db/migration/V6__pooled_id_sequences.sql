@@ -0,0 +1,7 @@
+-- Requests, comments and audit events take their ids from Hibernate's pooled-lo optimizer, which
+-- reserves a block of 50 ids per sequence call so inserts can be batched. Each value the sequence
+-- hands out is the start of a block; plain INSERTs relying on the column default still draw from the
+-- same sequence and simply use the first id of their block.
+ALTER SEQUENCE requests_id_seq INCREMENT BY 50;
+ALTER SEQUENCE request_comments_id_seq INCREMENT BY 50;
+ALTER SEQUENCE request_audit_events_id_seq INCREMENT BY 50;
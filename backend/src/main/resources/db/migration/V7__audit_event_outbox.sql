@@ -0,0 +1,17 @@
+-- Audit events are captured here inside the business transaction and moved to request_audit_events
+-- in batches by a background writer. No foreign keys or secondary indexes: the table is written once
+-- per event and read in id order.
+CREATE SEQUENCE audit_event_outbox_id_seq INCREMENT BY 50;
+
+CREATE TABLE audit_event_outbox (
+    id BIGINT PRIMARY KEY DEFAULT nextval('audit_event_outbox_id_seq'),
+    request_id BIGINT NOT NULL,
+    actor_id BIGINT NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    from_status VARCHAR(50),
+    to_status VARCHAR(50),
+    note TEXT,
+    created_at TIMESTAMP NOT NULL
+);
+
+ALTER SEQUENCE audit_event_outbox_id_seq OWNED BY audit_event_outbox.id;
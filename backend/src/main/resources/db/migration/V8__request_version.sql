@@ -0,0 +1,2 @@
+-- Optimistic concurrency: every write to a request bumps its version
+ALTER TABLE requests ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,13 @@
+-- Responses to POSTs sent with an Idempotency-Key header, replayed when the same user retries the
+-- same key. Rows are purged once expires_at has passed.
+CREATE TABLE idempotency_keys (
+    scoped_key VARCHAR(300) PRIMARY KEY,
+    request_fingerprint VARCHAR(64) NOT NULL,
+    response_status INTEGER NOT NULL,
+    content_type VARCHAR(255),
+    response_body TEXT,
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
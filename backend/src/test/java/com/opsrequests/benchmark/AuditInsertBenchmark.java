@@ -0,0 +1,123 @@
+package com.opsrequests.benchmark;
+
+import com.opsrequests.OpsRequestsApplication;
+import com.opsrequests.entity.Request;
+import com.opsrequests.entity.Request.Priority;
+import com.opsrequests.entity.Request.Status;
+import com.opsrequests.entity.RequestAuditEvent;
+import com.opsrequests.entity.RequestAuditEvent.EventType;
+import com.opsrequests.entity.RequestComment;
+import com.opsrequests.entity.RequestType;
+import com.opsrequests.entity.User;
+import com.opsrequests.repository.RequestAuditEventRepository;
+import com.opsrequests.repository.RequestCommentRepository;
+import com.opsrequests.repository.RequestRepository;
+import com.opsrequests.repository.RequestTypeRepository;
+import com.opsrequests.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert throughput for an audit-heavy transaction: each operation records a decision on
+ * {@code requests} requests (two audit events and a comment each). {@code batchSize=1} sends every
+ * insert on its own, as identity keys forced before; {@code 50} lets the pooled sequence ids batch them.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=AuditInsertBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuditInsertBenchmark {
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    @Param({"100"})
+    private int requests;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private RequestRepository requestRepository;
+    private UserRepository userRepository;
+    private RequestAuditEventRepository auditEventRepository;
+    private RequestCommentRepository commentRepository;
+    private JdbcTemplate jdbcTemplate;
+    private Long managerId;
+    private final List<Long> requestIds = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(OpsRequestsApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        "logging.level.root=WARN")
+                .run();
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        requestRepository = context.getBean(RequestRepository.class);
+        userRepository = context.getBean(UserRepository.class);
+        auditEventRepository = context.getBean(RequestAuditEventRepository.class);
+        commentRepository = context.getBean(RequestCommentRepository.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        User manager = userRepository.save(User.builder()
+                .email("bench-manager@test.com").password("password").role(User.Role.MANAGER).active(true).build());
+        User employee = userRepository.save(User.builder()
+                .email("bench-employee@test.com").password("password").role(User.Role.EMPLOYEE)
+                .managerId(manager.getId()).active(true).build());
+        RequestType type = context.getBean(RequestTypeRepository.class).save(RequestType.builder()
+                .code("BENCH").name("Benchmark").active(true).build());
+        managerId = manager.getId();
+
+        List<Request> seeded = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            seeded.add(Request.builder()
+                    .requester(employee).manager(manager).type(type)
+                    .title("Benchmark request " + i).priority(Priority.MEDIUM).status(Status.SUBMITTED)
+                    .build());
+        }
+        requestRepository.saveAll(seeded).forEach(request -> requestIds.add(request.getId()));
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearActivity() {
+        jdbcTemplate.update("DELETE FROM request_audit_events");
+        jdbcTemplate.update("DELETE FROM request_comments");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void recordDecisions() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User actor = userRepository.getReferenceById(managerId);
+            for (Long requestId : requestIds) {
+                Request request = requestRepository.getReferenceById(requestId);
+                auditEventRepository.save(RequestAuditEvent.builder()
+                        .request(request).actor(actor).eventType(EventType.APPROVED)
+                        .fromStatus(Status.SUBMITTED.name()).toStatus(Status.APPROVED.name()).note("Approved")
+                        .build());
+                commentRepository.save(RequestComment.builder()
+                        .request(request).author(actor).comment("Approved")
+                        .build());
+                auditEventRepository.save(RequestAuditEvent.builder()
+                        .request(request).actor(actor).eventType(EventType.COMMENT_ADDED).note("Approved")
+                        .build());
+            }
+        });
+    }
+}
@@ -0,0 +1,133 @@
+package com.opsrequests.benchmark;
+
+import com.opsrequests.OpsRequestsApplication;
+import com.opsrequests.dto.request.AddCommentRequest;
+import com.opsrequests.dto.request.CreateRequestRequest;
+import com.opsrequests.dto.response.CommentResponse;
+import com.opsrequests.dto.response.RequestResponse;
+import com.opsrequests.entity.Request.Priority;
+import com.opsrequests.entity.RequestType;
+import com.opsrequests.entity.User;
+import com.opsrequests.repository.RequestTypeRepository;
+import com.opsrequests.repository.UserRepository;
+import com.opsrequests.security.UserPrincipal;
+import com.opsrequests.service.RequestService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calls that load users and request types, with the second-level cache on and off. Besides the
+ * time per call, the {@code statementsPerOp} counter reports the SQL statements each call ran.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=EntityCacheBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityCacheBenchmark {
+
+    @Param({"true", "false"})
+    private boolean secondLevelCache;
+
+    private ConfigurableApplicationContext context;
+    private RequestService requestService;
+    private UserRepository userRepository;
+    private Statistics statistics;
+    private UserPrincipal employeePrincipal;
+    private CreateRequestRequest createRequest;
+    private AddCommentRequest comment;
+    private Long commentedRequestId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(OpsRequestsApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("logging.level.root=WARN")
+                // An argument, since application.yml takes precedence over default properties
+                .run("--spring.jpa.properties.hibernate.cache.use_second_level_cache=" + secondLevelCache);
+        requestService = context.getBean(RequestService.class);
+        userRepository = context.getBean(UserRepository.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        User manager = userRepository.save(User.builder()
+                .email("bench-manager@test.com").password("password").role(User.Role.MANAGER).active(true).build());
+        User employee = userRepository.save(User.builder()
+                .email("bench-employee@test.com").password("password").role(User.Role.EMPLOYEE)
+                .managerId(manager.getId()).active(true).build());
+        RequestType type = context.getBean(RequestTypeRepository.class).save(RequestType.builder()
+                .code("BENCH").name("Benchmark").active(true).build());
+        employeePrincipal = UserPrincipal.create(employee);
+
+        createRequest = new CreateRequestRequest();
+        createRequest.setTypeId(type.getId());
+        createRequest.setTitle("Benchmark request");
+        createRequest.setPriority(Priority.MEDIUM);
+        comment = new AddCommentRequest();
+        comment.setComment("Benchmark comment");
+        commentedRequestId = requestService.createRequest(createRequest, employeePrincipal).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public RequestResponse createRequest(StatementCounter counter) {
+        long before = statistics.getPrepareStatementCount();
+        RequestResponse created = requestService.createRequest(createRequest, employeePrincipal);
+        counter.record(statistics.getPrepareStatementCount() - before);
+        return created;
+    }
+
+    @Benchmark
+    public CommentResponse addComment(StatementCounter counter) {
+        long before = statistics.getPrepareStatementCount();
+        CommentResponse added = requestService.addComment(commentedRequestId, comment, employeePrincipal);
+        counter.record(statistics.getPrepareStatementCount() - before);
+        return added;
+    }
+
+    /** The lookup behind every login. */
+    @Benchmark
+    public Optional<User> findUserByEmail(StatementCounter counter) {
+        long before = statistics.getPrepareStatementCount();
+        Optional<User> user = userRepository.findByEmail("bench-employee@test.com");
+        counter.record(statistics.getPrepareStatementCount() - before);
+        return user;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StatementCounter {
+
+        private long statements;
+        private long operations;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            statements = 0;
+            operations = 0;
+        }
+
+        public double statementsPerOp() {
+            return operations == 0 ? 0 : (double) statements / operations;
+        }
+
+        void record(long executed) {
+            statements += executed;
+            operations++;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.opsrequests.benchmark;
+
+import com.opsrequests.entity.User;
+import com.opsrequests.security.JwtAuthenticationFilter;
+import com.opsrequests.security.JwtTokenProvider;
+import com.opsrequests.security.PrincipalCache;
+import com.opsrequests.security.UserPrincipal;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token verification throughput. {@code legacyFilterPath} reproduces the previous filter: the
+ * HMAC key rebuilt and the token parsed twice (validate, then read the subject). The other
+ * benchmarks run the current single-parse path with the verified-token cache off ({@code 0}) and on.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=JwtFilterBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-must-be-at-least-32-characters-long";
+
+    @Param({"0", "10000"})
+    private int verifiedTokenCacheSize;
+
+    private JwtTokenProvider tokenProvider;
+    private JwtAuthenticationFilter filter;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET, 3600000L, verifiedTokenCacheSize);
+
+        PrincipalCache principalCache = new PrincipalCache();
+        ReflectionTestUtils.setField(principalCache, "ttlMs", 60000L);
+        ReflectionTestUtils.setField(principalCache, "maxSize", 100);
+
+        UserPrincipal principal = UserPrincipal.create(User.builder()
+                .id(1L).email("bench@test.com").password("x").role(User.Role.EMPLOYEE).managerId(2L).active(true)
+                .build());
+        // The principal stays cached for the whole run, so resolution never reaches the repository
+        principalCache.get(1L, () -> principal);
+        filter = new JwtAuthenticationFilter(tokenProvider, null, principalCache, new SimpleMeterRegistry());
+        token = tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @Benchmark
+    public Long legacyFilterPath() {
+        Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token);
+        Claims claims = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+        return Long.parseLong(claims.getSubject());
+    }
+
+    @Benchmark
+    public Claims verifyAndExtract() {
+        return tokenProvider.verifyAndExtract(token);
+    }
+
+    @Benchmark
+    public Object filter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+}
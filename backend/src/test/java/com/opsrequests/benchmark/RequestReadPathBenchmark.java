@@ -0,0 +1,126 @@
+package com.opsrequests.benchmark;
+
+import com.opsrequests.OpsRequestsApplication;
+import com.opsrequests.dto.response.RequestDetailResponse;
+import com.opsrequests.dto.response.RequestPageResponse;
+import com.opsrequests.dto.response.RequestResponse;
+import com.opsrequests.entity.Request.Priority;
+import com.opsrequests.entity.Request.Status;
+import com.opsrequests.entity.RequestType;
+import com.opsrequests.entity.User;
+import com.opsrequests.repository.RequestTypeRepository;
+import com.opsrequests.repository.UserRepository;
+import com.opsrequests.security.UserPrincipal;
+import com.opsrequests.service.RequestService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the JPA and JDBC read paths on list, page and detail reads against an H2 database.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=RequestReadPathBenchmark};
+ * the gc profiler reports allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestReadPathBenchmark {
+
+    private static final int COMMENTS_ON_DETAIL = 50;
+
+    @Param({"jpa", "jdbc", "view"})
+    private String readPath;
+
+    @Param({"1000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private RequestService requestService;
+    private UserPrincipal adminPrincipal;
+    private Long detailRequestId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(OpsRequestsApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("logging.level.root=WARN")
+                // Arguments, since application.yml takes precedence over default properties
+                .run("--requests.read-path=" + readPath,
+                        "--spring.jpa.properties.hibernate.generate_statistics=false");
+        requestService = context.getBean(RequestService.class);
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        User admin = userRepository.save(User.builder()
+                .email("bench-admin@test.com").password("password").role(User.Role.ADMIN).active(true).build());
+        User manager = userRepository.save(User.builder()
+                .email("bench-manager@test.com").password("password").role(User.Role.MANAGER).active(true).build());
+        List<User> employees = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            employees.add(userRepository.save(User.builder()
+                    .email("bench-employee" + i + "@test.com").password("password").role(User.Role.EMPLOYEE)
+                    .managerId(manager.getId()).active(true).build()));
+        }
+        RequestType type = context.getBean(RequestTypeRepository.class).save(RequestType.builder()
+                .code("BENCH").name("Benchmark").active(true).build());
+        adminPrincipal = UserPrincipal.create(admin);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        LocalDateTime start = LocalDateTime.now().minusDays(1);
+        List<Object[]> requestRows = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            Timestamp createdAt = Timestamp.valueOf(start.plusSeconds(i));
+            requestRows.add(new Object[]{employees.get(i % employees.size()).getId(), manager.getId(), type.getId(),
+                    "Benchmark request " + i, "Description " + i, Priority.values()[i % 4].name(),
+                    Status.SUBMITTED.name(), createdAt, createdAt, createdAt});
+        }
+        // Schema generated from the mappings has no id defaults, so ids come straight from the sequences
+        jdbcTemplate.batchUpdate("INSERT INTO requests (id, requester_id, manager_id, type_id, title, description, "
+                + "priority, status, created_at, updated_at, changed_at, version) "
+                + "VALUES (NEXT VALUE FOR requests_id_seq, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)", requestRows);
+
+        detailRequestId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM requests", Long.class);
+        List<Object[]> timelineRows = new ArrayList<>();
+        for (int i = 0; i < COMMENTS_ON_DETAIL; i++) {
+            timelineRows.add(new Object[]{detailRequestId, employees.get(i % employees.size()).getId(),
+                    "Comment " + i, Timestamp.valueOf(start.plusSeconds(i))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO request_comments (id, request_id, author_id, comment, created_at) "
+                + "VALUES (NEXT VALUE FOR request_comments_id_seq, ?, ?, ?, ?)", timelineRows);
+        jdbcTemplate.batchUpdate("INSERT INTO request_audit_events (id, request_id, actor_id, event_type, note, "
+                + "created_at) VALUES (NEXT VALUE FOR request_audit_events_id_seq, ?, ?, 'COMMENT_ADDED', ?, ?)",
+                timelineRows);
+        requestService.rebuildReadModel();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<RequestResponse> listAll() {
+        return requestService.getRequests(adminPrincipal, null, null, null);
+    }
+
+    @Benchmark
+    public RequestPageResponse firstPage() {
+        return requestService.getRequestPage(adminPrincipal, null, null, null, null, null, null, 50);
+    }
+
+    @Benchmark
+    public RequestDetailResponse detail() {
+        return requestService.getRequestDetail(detailRequestId, adminPrincipal);
+    }
+}
@@ -0,0 +1,95 @@
+package com.opsrequests.integration;
+
+import com.opsrequests.entity.AuditOutboxEntry;
+import com.opsrequests.entity.Request;
+import com.opsrequests.entity.Request.Priority;
+import com.opsrequests.entity.Request.Status;
+import com.opsrequests.entity.RequestAuditEvent;
+import com.opsrequests.entity.RequestAuditEvent.EventType;
+import com.opsrequests.entity.RequestType;
+import com.opsrequests.entity.User;
+import com.opsrequests.repository.AuditOutboxRepository;
+import com.opsrequests.service.AuditOutbox;
+import com.opsrequests.service.AuditOutboxDrainer;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class AuditOutboxIntegrationTest {
+
+    @Autowired
+    private AuditOutbox auditOutbox;
+
+    @Autowired
+    private AuditOutboxDrainer auditOutboxDrainer;
+
+    @Autowired
+    private AuditOutboxRepository auditOutboxRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Request request;
+    private User actor;
+
+    @BeforeEach
+    void setUp() {
+        actor = User.builder()
+                .email("outbox-manager@test.com").password("password").role(User.Role.MANAGER).active(true)
+                .build();
+        entityManager.persist(actor);
+        RequestType type = RequestType.builder().code("OUTBOX").name("Outbox").active(true).build();
+        entityManager.persist(type);
+        request = Request.builder()
+                .requester(actor).type(type).title("Outbox request")
+                .priority(Priority.LOW).status(Status.SUBMITTED)
+                .build();
+        entityManager.persist(request);
+    }
+
+    @Test
+    void drain_MovesUndrainedEntriesAndKeepsCaptureTime() {
+        auditOutbox.record(request.getId(), actor.getId(), EventType.CREATED, null, Status.SUBMITTED.name(), null);
+        auditOutbox.record(request.getId(), actor.getId(), EventType.APPROVED, Status.SUBMITTED.name(),
+                Status.APPROVED.name(), "Approved");
+        auditOutbox.record(request.getId(), actor.getId(), EventType.COMMENT_ADDED, null, null, "Approved");
+        entityManager.flush();
+        List<AuditOutboxEntry> captured = auditOutboxRepository.findAll();
+        long lagSamples = meterRegistry.get("audit.outbox.drain.lag").timer().count();
+
+        // Read from the table, whichever instance captured the entries
+        assertEquals(3.0, meterRegistry.get("audit.outbox.depth").gauge().value());
+
+        assertEquals(3, auditOutboxDrainer.drain());
+        assertEquals(0, auditOutboxDrainer.drain());
+
+        entityManager.clear();
+        List<RequestAuditEvent> events = entityManager.createQuery(
+                        "SELECT e FROM RequestAuditEvent e WHERE e.request.id = :id ORDER BY e.id",
+                        RequestAuditEvent.class)
+                .setParameter("id", request.getId()).getResultList();
+        assertEquals(List.of(EventType.CREATED, EventType.APPROVED, EventType.COMMENT_ADDED),
+                events.stream().map(RequestAuditEvent::getEventType).toList());
+        assertEquals(captured.get(1).getCreatedAt(), events.get(1).getCreatedAt());
+        assertEquals("Approved", events.get(1).getNote());
+
+        assertEquals(0, auditOutboxRepository.count());
+        assertEquals(0.0, meterRegistry.get("audit.outbox.depth").gauge().value());
+        assertEquals(lagSamples + 3, meterRegistry.get("audit.outbox.drain.lag").timer().count());
+    }
+}
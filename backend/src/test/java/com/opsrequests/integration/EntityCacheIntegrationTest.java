@@ -0,0 +1,125 @@
+package com.opsrequests.integration;
+
+import com.opsrequests.dto.request.CreateRequestRequest;
+import com.opsrequests.dto.request.UpdateUserRequest;
+import com.opsrequests.entity.Request.Priority;
+import com.opsrequests.entity.RequestType;
+import com.opsrequests.entity.User;
+import com.opsrequests.repository.RequestTypeRepository;
+import com.opsrequests.repository.UserRepository;
+import com.opsrequests.security.UserPrincipal;
+import com.opsrequests.service.RequestService;
+import com.opsrequests.service.UserService;
+import com.opsrequests.support.SqlStatementBudget;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Users and request types come from the second-level cache once loaded, by id and by natural id.
+ * Fixtures are committed for real, since the cache only takes committed rows; each test starts with
+ * the cache warmed in {@code setUp}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EntityCacheIntegrationTest {
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RequestTypeRepository requestTypeRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private User manager;
+    private User employee;
+    private RequestType type;
+
+    @BeforeEach
+    void setUp() {
+        manager = saveUser("l2-manager@test.com", User.Role.MANAGER, null);
+        employee = saveUser("l2-employee@test.com", User.Role.EMPLOYEE, manager.getId());
+        type = requestTypeRepository.save(RequestType.builder()
+                .code("L2_CACHE").name("Cached type").active(true).build());
+
+        userRepository.findById(manager.getId());
+        userRepository.findByEmail(employee.getEmail());
+        requestTypeRepository.findByCode(type.getCode());
+    }
+
+    @AfterEach
+    void tearDown() {
+        MapSqlParameterSource requester = new MapSqlParameterSource("id", employee.getId());
+        jdbcTemplate.update("DELETE FROM audit_event_outbox WHERE request_id IN "
+                + "(SELECT id FROM requests WHERE requester_id = :id)", requester);
+        jdbcTemplate.update("DELETE FROM request_list_view WHERE requester_id = :id", requester);
+        jdbcTemplate.update("DELETE FROM requests WHERE requester_id = :id", requester);
+        requestTypeRepository.delete(type);
+        userRepository.deleteAll(List.of(employee, manager));
+    }
+
+    @Test
+    @SqlStatementBudget(0)
+    void findByNaturalId_IsServedFromTheCache() {
+        assertEquals(employee.getId(), userRepository.findByEmail("l2-employee@test.com").orElseThrow().getId());
+        assertEquals(type.getId(), requestTypeRepository.findByCode("L2_CACHE").orElseThrow().getId());
+        assertTrue(userRepository.findById(employee.getId()).isPresent());
+    }
+
+    @Test
+    @SqlStatementBudget(6)
+    void createRequest_LoadsNoUsersOrTypes() {
+        // Two id block fetches, the request, outbox and read-model writes; the requester, manager and type cost nothing
+        CreateRequestRequest request = new CreateRequestRequest();
+        request.setTypeId(type.getId());
+        request.setTitle("Cached parties");
+        request.setPriority(Priority.MEDIUM);
+
+        requestService.createRequest(request, UserPrincipal.create(employee));
+    }
+
+    @Test
+    void updateUser_IsNotHiddenByTheCache() {
+        UpdateUserRequest update = new UpdateUserRequest();
+        update.setRole(User.Role.MANAGER);
+        userService.updateUser(employee.getId(), update);
+
+        assertEquals(User.Role.MANAGER, userRepository.findByEmail("l2-employee@test.com").orElseThrow().getRole());
+    }
+
+    @Test
+    void hitRatio_IsPublishedPerRegion() {
+        userRepository.findById(employee.getId());
+
+        double ratio = meterRegistry.get("hibernate.second.level.cache.hit.ratio").tag("region", "users")
+                .gauge().value();
+        assertTrue(ratio > 0, "users hit ratio " + ratio);
+    }
+
+    private User saveUser(String email, User.Role role, Long managerId) {
+        return userRepository.save(User.builder()
+                .email(email).password("password").role(role).managerId(managerId).active(true)
+                .build());
+    }
+}
@@ -0,0 +1,174 @@
+package com.opsrequests.integration;
+
+import com.opsrequests.entity.Request;
+import com.opsrequests.entity.Request.Priority;
+import com.opsrequests.entity.Request.Status;
+import com.opsrequests.entity.RequestAuditEvent.EventType;
+import com.opsrequests.entity.RequestType;
+import com.opsrequests.entity.User;
+import com.opsrequests.security.UserPrincipal;
+import com.opsrequests.service.AuditOutboxDrainer;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class IdempotencyKeyIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AuditOutboxDrainer auditOutboxDrainer;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private UserPrincipal managerPrincipal;
+    private UserPrincipal employeePrincipal;
+    private RequestType type;
+    private Request request;
+
+    @BeforeEach
+    void setUp() {
+        User manager = persistUser("idem-manager@test.com", User.Role.MANAGER, null);
+        User employee = persistUser("idem-employee@test.com", User.Role.EMPLOYEE, manager.getId());
+        managerPrincipal = UserPrincipal.create(manager);
+        employeePrincipal = UserPrincipal.create(employee);
+
+        type = RequestType.builder().code("IDEM").name("Idempotency").active(true).build();
+        entityManager.persist(type);
+        request = Request.builder()
+                .requester(employee).manager(manager).type(type)
+                .title("Retried request").priority(Priority.MEDIUM).status(Status.SUBMITTED)
+                .build();
+        entityManager.persist(request);
+        entityManager.flush();
+    }
+
+    @Test
+    void createRequest_RetryWithSameKeyReplaysFirstResponse() throws Exception {
+        String key = UUID.randomUUID().toString();
+        String body = createBody("Laptop for new hire");
+
+        MvcResult first = mockMvc.perform(post("/api/requests")
+                        .with(user(employeePrincipal))
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                .andReturn();
+
+        mockMvc.perform(post("/api/requests")
+                        .with(user(employeePrincipal))
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(content -> assertEquals(first.getResponse().getContentAsString(),
+                        content.getResponse().getContentAsString()));
+
+        Long created = entityManager.createQuery(
+                        "SELECT COUNT(r) FROM Request r WHERE r.title = :title", Long.class)
+                .setParameter("title", "Laptop for new hire").getSingleResult();
+        assertEquals(1L, created);
+    }
+
+    @Test
+    void createRequest_SameKeyDifferentBody_IsRejected() throws Exception {
+        String key = UUID.randomUUID().toString();
+        mockMvc.perform(post("/api/requests")
+                        .with(user(employeePrincipal))
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(createBody("First")))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/requests")
+                        .with(user(employeePrincipal))
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(createBody("Second")))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errorCode").value("IDEMPOTENCY_KEY_REUSED"));
+    }
+
+    @Test
+    void approve_RetryDoesNotDecideOrAuditTwice() throws Exception {
+        String key = UUID.randomUUID().toString();
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(post("/api/requests/{id}/approve", request.getId())
+                            .with(user(managerPrincipal))
+                            .header("Idempotency-Key", key)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"comment\":\"Approved\"}"))
+                    .andExpect(status().isOk());
+        }
+
+        auditOutboxDrainer.drain();
+        entityManager.clear();
+        assertEquals(Status.APPROVED, entityManager.find(Request.class, request.getId()).getStatus());
+        List<EventType> events = entityManager.createQuery(
+                        "SELECT e.eventType FROM RequestAuditEvent e WHERE e.request.id = :id ORDER BY e.id",
+                        EventType.class)
+                .setParameter("id", request.getId()).getResultList();
+        assertEquals(List.of(EventType.APPROVED, EventType.COMMENT_ADDED), events);
+    }
+
+    @Test
+    void approve_KeysAreScopedPerUser() throws Exception {
+        String key = UUID.randomUUID().toString();
+        mockMvc.perform(post("/api/requests/{id}/cancel", request.getId())
+                        .with(user(employeePrincipal))
+                        .header("Idempotency-Key", key))
+                .andExpect(status().isOk());
+
+        // The same key from another user is a separate request, and this one is too late
+        mockMvc.perform(post("/api/requests/{id}/approve", request.getId())
+                        .with(user(managerPrincipal))
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"comment\":\"Approved\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"));
+    }
+
+    private String createBody(String title) {
+        return "{\"typeId\":" + type.getId() + ",\"title\":\"" + title + "\",\"priority\":\"LOW\"}";
+    }
+
+    private User persistUser(String email, User.Role role, Long managerId) {
+        User user = User.builder()
+                .email(email)
+                .password("password")
+                .role(role)
+                .managerId(managerId)
+                .active(true)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
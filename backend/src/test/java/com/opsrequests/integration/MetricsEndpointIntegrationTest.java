@@ -0,0 +1,65 @@
+package com.opsrequests.integration;
+
+import com.opsrequests.entity.User;
+import com.opsrequests.security.UserPrincipal;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Hot-path timers, pool gauges and Hibernate statistics on the Prometheus scrape endpoint.
+ */
+@SpringBootTest(properties = "metrics.scrape-password=scrape-secret")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class MetricsEndpointIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final UserPrincipal employeePrincipal =
+            new UserPrincipal(1L, "metrics@test.com", null, User.Role.EMPLOYEE, null, true);
+
+    @Test
+    void prometheus_PublishesHotPathHistograms() throws Exception {
+        mockMvc.perform(get("/api/requests").with(user(employeePrincipal)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("prometheus", "scrape-secret")))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "class=\"com.opsrequests.service.RequestService\",exception=\"none\",method=\"getRequests\",le=\"0.005\"")))
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket{")))
+                .andExpect(content().string(containsString(
+                        "security_jwt_authentication_seconds_bucket{application=\"ops-requests\",outcome=\"anonymous\",le=\"1.0E-4\"")))
+                .andExpect(content().string(containsString("hikaricp_connections_active{")))
+                .andExpect(content().string(containsString("hibernate_statements_total{")));
+    }
+
+    @Test
+    void prometheus_RejectsScrapesWithoutTheScrapeCredential() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("prometheus", "wrong")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/prometheus").with(user(employeePrincipal)))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void metrics_StillRequireAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/metrics").with(user(employeePrincipal)))
+                .andExpect(status().isForbidden());
+    }
+}
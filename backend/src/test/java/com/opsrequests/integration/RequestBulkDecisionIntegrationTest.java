@@ -0,0 +1,174 @@
+package com.opsrequests.integration;
+
+import com.opsrequests.entity.Request;
+import com.opsrequests.entity.Request.Priority;
+import com.opsrequests.entity.Request.Status;
+import com.opsrequests.entity.RequestAuditEvent.EventType;
+import com.opsrequests.entity.RequestListView;
+import com.opsrequests.entity.RequestType;
+import com.opsrequests.entity.User;
+import com.opsrequests.security.UserPrincipal;
+import com.opsrequests.service.AuditOutboxDrainer;
+import com.opsrequests.service.RequestReadModelService;
+import com.opsrequests.support.SqlStatementBudget;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class RequestBulkDecisionIntegrationTest {
+
+    private static final int QUEUE_SIZE = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RequestReadModelService requestReadModelService;
+
+    @Autowired
+    private AuditOutboxDrainer auditOutboxDrainer;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private UserPrincipal managerPrincipal;
+    private UserPrincipal employeePrincipal;
+    private final List<Long> queue = new ArrayList<>();
+    private Long foreignRequestId;
+    private Long approvedRequestId;
+
+    @BeforeEach
+    void setUp() {
+        User manager = persistUser("bulk-manager@test.com", User.Role.MANAGER, null);
+        User otherManager = persistUser("bulk-other-manager@test.com", User.Role.MANAGER, null);
+        User employee = persistUser("bulk-employee@test.com", User.Role.EMPLOYEE, manager.getId());
+        managerPrincipal = UserPrincipal.create(manager);
+        employeePrincipal = UserPrincipal.create(employee);
+
+        RequestType type = RequestType.builder().code("BULK").name("Bulk").active(true).build();
+        entityManager.persist(type);
+
+        for (int i = 0; i < QUEUE_SIZE; i++) {
+            queue.add(persistRequest(employee, manager, type, Status.SUBMITTED).getId());
+        }
+        foreignRequestId = persistRequest(employee, otherManager, type, Status.SUBMITTED).getId();
+        approvedRequestId = persistRequest(employee, manager, type, Status.APPROVED).getId();
+
+        entityManager.flush();
+        requestReadModelService.rebuild();
+        entityManager.clear();
+    }
+
+    @Test
+    void bulkApprove_ReportsPerIdResultsAndDecidesEligibleRequests() throws Exception {
+        Long eligibleId = queue.get(0);
+        Long missingId = -1L;
+
+        mockMvc.perform(post("/api/requests/bulk/approve")
+                        .with(user(managerPrincipal))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(List.of(eligibleId, foreignRequestId, approvedRequestId, missingId, eligibleId),
+                                "Approved in bulk")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(3))
+                .andExpect(jsonPath("$.results", hasSize(4)))
+                .andExpect(jsonPath("$.results[0].id").value(eligibleId))
+                .andExpect(jsonPath("$.results[0].success").value(true))
+                .andExpect(jsonPath("$.results[1].error").value("You can only approve/reject requests assigned to you"))
+                .andExpect(jsonPath("$.results[2].error").value("Can only approve requests in SUBMITTED status"))
+                .andExpect(jsonPath("$.results[3].error").value("Request not found"));
+
+        auditOutboxDrainer.drain();
+        entityManager.clear();
+        assertEquals(Status.APPROVED, entityManager.find(Request.class, eligibleId).getStatus());
+        assertEquals(Status.APPROVED, entityManager.find(RequestListView.class, eligibleId).getStatus());
+        assertEquals(Status.SUBMITTED, entityManager.find(Request.class, foreignRequestId).getStatus());
+
+        List<EventType> events = entityManager.createQuery(
+                        "SELECT e.eventType FROM RequestAuditEvent e WHERE e.request.id = :id ORDER BY e.id",
+                        EventType.class)
+                .setParameter("id", eligibleId).getResultList();
+        assertEquals(List.of(EventType.APPROVED, EventType.COMMENT_ADDED), events);
+
+        List<String> comments = entityManager.createQuery(
+                        "SELECT c.comment FROM RequestComment c WHERE c.request.id = :id", String.class)
+                .setParameter("id", eligibleId).getResultList();
+        assertEquals(List.of("Approved in bulk"), comments);
+    }
+
+    @Test
+    @SqlStatementBudget(7)
+    void bulkReject_WholeQueueUsesConstantStatements() throws Exception {
+        // Select, update and read-model update, one insert batch each for audit events and comments,
+        // plus at most one id block fetch per sequence
+        mockMvc.perform(post("/api/requests/bulk/reject")
+                        .with(user(managerPrincipal))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(queue, "Out of budget")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(QUEUE_SIZE))
+                .andExpect(jsonPath("$.failed").value(0));
+    }
+
+    @Test
+    void bulkApprove_EmployeeIsForbidden() throws Exception {
+        mockMvc.perform(post("/api/requests/bulk/approve")
+                        .with(user(employeePrincipal))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(queue, "Not mine to approve")))
+                .andExpect(status().isForbidden());
+    }
+
+    private static String body(List<Long> ids, String comment) {
+        String idList = ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+        return "{\"ids\":[" + idList + "],\"comment\":\"" + comment + "\"}";
+    }
+
+    private Request persistRequest(User requester, User manager, RequestType type, Status status) {
+        Request request = Request.builder()
+                .requester(requester)
+                .manager(manager)
+                .type(type)
+                .title("Bulk request")
+                .priority(Priority.MEDIUM)
+                .status(status)
+                .build();
+        entityManager.persist(request);
+        return request;
+    }
+
+    private User persistUser(String email, User.Role role, Long managerId) {
+        User user = User.builder()
+                .email(email)
+                .password("password")
+                .role(role)
+                .managerId(managerId)
+                .active(true)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
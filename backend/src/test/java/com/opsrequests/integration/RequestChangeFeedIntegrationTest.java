@@ -0,0 +1,140 @@
+package com.opsrequests.integration;
+
+import com.opsrequests.dto.request.AddCommentRequest;
+import com.opsrequests.dto.request.ApproveRejectRequest;
+import com.opsrequests.dto.request.CreateRequestRequest;
+import com.opsrequests.dto.response.RequestChangesResponse;
+import com.opsrequests.dto.response.RequestResponse;
+import com.opsrequests.entity.Request.Priority;
+import com.opsrequests.entity.Request.Status;
+import com.opsrequests.entity.RequestType;
+import com.opsrequests.entity.User;
+import com.opsrequests.exception.BadRequestException;
+import com.opsrequests.security.UserPrincipal;
+import com.opsrequests.service.RequestService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class RequestChangeFeedIntegrationTest {
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private UserPrincipal adminPrincipal;
+    private UserPrincipal managerPrincipal;
+    private UserPrincipal employeePrincipal;
+    private UserPrincipal otherEmployeePrincipal;
+    private final List<Long> created = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        adminPrincipal = UserPrincipal.create(persistUser("feed-admin@test.com", User.Role.ADMIN, null));
+        User manager = persistUser("feed-manager@test.com", User.Role.MANAGER, null);
+        managerPrincipal = UserPrincipal.create(manager);
+        employeePrincipal = UserPrincipal.create(persistUser("feed-employee@test.com", User.Role.EMPLOYEE, manager.getId()));
+        otherEmployeePrincipal = UserPrincipal.create(persistUser("feed-other@test.com", User.Role.EMPLOYEE, null));
+
+        RequestType type = RequestType.builder().code("FEED").name("Feed").active(true).build();
+        entityManager.persist(type);
+
+        for (int i = 0; i < 3; i++) {
+            CreateRequestRequest create = new CreateRequestRequest();
+            create.setTypeId(type.getId());
+            create.setTitle("Feed request " + i);
+            create.setPriority(Priority.MEDIUM);
+            created.add(requestService.createRequest(create, employeePrincipal).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void getChanges_ReturnsOnlyRequestsChangedSinceCursor() {
+        RequestChangesResponse initial = requestService.getChanges(employeePrincipal, null, null);
+        assertEquals(created, ids(initial));
+        assertFalse(initial.isHasMore());
+
+        RequestChangesResponse idle = requestService.getChanges(employeePrincipal, initial.getCursor(), null);
+        assertTrue(idle.getItems().isEmpty());
+        assertEquals(initial.getCursor(), idle.getCursor());
+
+        ApproveRejectRequest approve = new ApproveRejectRequest();
+        approve.setComment("Approved");
+        requestService.approveRequest(created.get(2), approve, managerPrincipal);
+        AddCommentRequest comment = new AddCommentRequest();
+        comment.setComment("Any update?");
+        requestService.addComment(created.get(0), comment, employeePrincipal);
+        entityManager.flush();
+        entityManager.clear();
+
+        RequestChangesResponse changes = requestService.getChanges(employeePrincipal, initial.getCursor(), null);
+        assertEquals(List.of(created.get(2), created.get(0)), ids(changes));
+        assertEquals(Status.APPROVED, changes.getItems().get(0).getStatus());
+        assertTrue(Long.parseLong(changes.getCursor()) > Long.parseLong(initial.getCursor()));
+    }
+
+    @Test
+    void getChanges_IsScopedByRoleAndPaged() {
+        assertTrue(requestService.getChanges(otherEmployeePrincipal, null, null).getItems().isEmpty());
+        assertEquals(created, ids(requestService.getChanges(managerPrincipal, null, null)));
+
+        RequestChangesResponse firstPage = requestService.getChanges(adminPrincipal, null, 2);
+        assertTrue(firstPage.isHasMore());
+        RequestChangesResponse rest = requestService.getChanges(adminPrincipal, firstPage.getCursor(), 2);
+        List<Long> all = new ArrayList<>(ids(firstPage));
+        all.addAll(ids(rest));
+        assertTrue(all.containsAll(created));
+    }
+
+    @Test
+    void getChanges_HoldsBackChangesInsideSettleWindow() {
+        RequestService target = AopTestUtils.getTargetObject(requestService);
+        ReflectionTestUtils.setField(target, "changeFeedSettleMs", 60_000L);
+        try {
+            RequestChangesResponse unsettled = requestService.getChanges(employeePrincipal, null, null);
+            assertTrue(unsettled.getItems().isEmpty());
+            assertEquals("0", unsettled.getCursor());
+        } finally {
+            ReflectionTestUtils.setField(target, "changeFeedSettleMs", 0L);
+        }
+    }
+
+    @Test
+    void getChanges_InvalidCursorIsRejected() {
+        assertThrows(BadRequestException.class, () -> requestService.getChanges(employeePrincipal, "abc", null));
+    }
+
+    private static List<Long> ids(RequestChangesResponse changes) {
+        return changes.getItems().stream().map(RequestResponse::getId).toList();
+    }
+
+    private User persistUser(String email, User.Role role, Long managerId) {
+        User user = User.builder()
+                .email(email)
+                .password("password")
+                .role(role)
+                .managerId(managerId)
+                .active(true)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,248 @@
+package com.opsrequests.integration;
+
+import com.opsrequests.dto.request.ApproveRejectRequest;
+import com.opsrequests.dto.request.BulkDecisionRequest;
+import com.opsrequests.dto.response.BulkDecisionResponse;
+import com.opsrequests.entity.Request;
+import com.opsrequests.entity.Request.Priority;
+import com.opsrequests.entity.Request.Status;
+import com.opsrequests.entity.RequestAuditEvent.EventType;
+import com.opsrequests.entity.RequestType;
+import com.opsrequests.entity.User;
+import com.opsrequests.exception.BadRequestException;
+import com.opsrequests.exception.ConflictException;
+import com.opsrequests.repository.RequestRepository;
+import com.opsrequests.repository.RequestTypeRepository;
+import com.opsrequests.repository.UserRepository;
+import com.opsrequests.security.UserPrincipal;
+import com.opsrequests.service.RequestService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Races approve, reject, cancel and bulk decisions on the same requests from many threads with real
+ * commits, and checks that every request ends with exactly one winning transition and one decision event.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RequestConcurrencyIntegrationTest {
+
+    private static final int REQUESTS = 40;
+    private static final int THREADS = 12;
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RequestTypeRepository requestTypeRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private User admin;
+    private User manager;
+    private User employee;
+    private RequestType type;
+    private final List<Long> requestIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        admin = userRepository.save(User.builder()
+                .email("race-admin@test.com").password("password").role(User.Role.ADMIN).active(true).build());
+        manager = userRepository.save(User.builder()
+                .email("race-manager@test.com").password("password").role(User.Role.MANAGER).active(true).build());
+        employee = userRepository.save(User.builder()
+                .email("race-employee@test.com").password("password").role(User.Role.EMPLOYEE)
+                .managerId(manager.getId()).active(true).build());
+        type = requestTypeRepository.save(RequestType.builder().code("RACE").name("Race").active(true).build());
+
+        for (int i = 0; i < REQUESTS; i++) {
+            requestIds.add(requestRepository.save(Request.builder()
+                    .requester(employee).manager(manager).type(type)
+                    .title("Contended request " + i).priority(Priority.MEDIUM).status(Status.SUBMITTED)
+                    .build()).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        MapSqlParameterSource ids = new MapSqlParameterSource("ids", requestIds);
+        jdbcTemplate.update("DELETE FROM audit_event_outbox WHERE request_id IN (:ids)", ids);
+        jdbcTemplate.update("DELETE FROM request_comments WHERE request_id IN (:ids)", ids);
+        jdbcTemplate.update("DELETE FROM request_list_view WHERE request_id IN (:ids)", ids);
+        jdbcTemplate.update("DELETE FROM requests WHERE id IN (:ids)", ids);
+        requestTypeRepository.delete(type);
+        userRepository.deleteAll(List.of(employee, manager, admin));
+    }
+
+    @Test
+    void concurrentTransitions_ExactlyOneWinsPerRequest() throws Exception {
+        UserPrincipal managerPrincipal = UserPrincipal.create(manager);
+        UserPrincipal adminPrincipal = UserPrincipal.create(admin);
+        UserPrincipal employeePrincipal = UserPrincipal.create(employee);
+        ApproveRejectRequest decision = new ApproveRejectRequest();
+        decision.setComment("Contended decision");
+
+        Map<Long, List<Status>> winners = new ConcurrentHashMap<>();
+        List<Callable<Void>> contenders = new ArrayList<>();
+        for (Long id : requestIds) {
+            contenders.add(attempt(winners, id, Status.APPROVED,
+                    () -> requestService.approveRequest(id, decision, managerPrincipal)));
+            contenders.add(attempt(winners, id, Status.REJECTED,
+                    () -> requestService.rejectRequest(id, decision, adminPrincipal)));
+            contenders.add(attempt(winners, id, Status.CANCELLED,
+                    () -> requestService.cancelRequest(id, employeePrincipal)));
+        }
+        Collections.shuffle(contenders);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (Callable<Void> contender : contenders) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return contender.call();
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Map<Long, Status> finalStatuses = requestRepository.findAllById(requestIds).stream()
+                .collect(Collectors.toMap(Request::getId, Request::getStatus));
+        Map<Long, Long> versions = requestRepository.findAllById(requestIds).stream()
+                .collect(Collectors.toMap(Request::getId, Request::getVersion));
+        List<Map<String, Object>> decisionEvents = jdbcTemplate.queryForList(
+                "SELECT request_id, event_type FROM audit_event_outbox WHERE request_id IN (:ids) "
+                        + "AND event_type IN ('APPROVED', 'REJECTED', 'CANCELLED')",
+                new MapSqlParameterSource("ids", requestIds));
+
+        for (Long id : requestIds) {
+            List<Status> won = winners.getOrDefault(id, List.of());
+            assertEquals(1, won.size(), "request " + id + " winners: " + won);
+            assertEquals(won.get(0), finalStatuses.get(id));
+            assertEquals(1L, versions.get(id));
+
+            List<String> events = decisionEvents.stream()
+                    .filter(row -> ((Number) row.get("request_id")).longValue() == id)
+                    .map(row -> (String) row.get("event_type"))
+                    .toList();
+            assertEquals(List.of(eventFor(won.get(0)).name()), events, "request " + id);
+        }
+    }
+
+    @Test
+    void bulkDecisionRacingCancels_ReportsTheRowsItLost() throws Exception {
+        UserPrincipal employeePrincipal = UserPrincipal.create(employee);
+        BulkDecisionRequest bulk = new BulkDecisionRequest();
+        bulk.setIds(requestIds);
+        bulk.setComment("Bulk decision");
+
+        Map<Long, List<Status>> winners = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        BulkDecisionResponse response;
+        try {
+            Future<BulkDecisionResponse> decided = executor.submit(() -> {
+                start.await();
+                return requestService.bulkApprove(bulk, UserPrincipal.create(manager));
+            });
+            List<Future<Void>> cancels = new ArrayList<>();
+            for (Long id : requestIds) {
+                Callable<Void> cancel = attempt(winners, id, Status.CANCELLED,
+                        () -> requestService.cancelRequest(id, employeePrincipal));
+                cancels.add(executor.submit(() -> {
+                    start.await();
+                    return cancel.call();
+                }));
+            }
+            start.countDown();
+            response = decided.get(1, TimeUnit.MINUTES);
+            for (Future<Void> cancel : cancels) {
+                cancel.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        for (BulkDecisionResponse.Result result : response.getResults()) {
+            if (result.isSuccess()) {
+                winners.computeIfAbsent(result.getId(), key -> new ArrayList<>()).add(Status.APPROVED);
+            }
+        }
+
+        Map<Long, Status> finalStatuses = requestRepository.findAllById(requestIds).stream()
+                .collect(Collectors.toMap(Request::getId, Request::getStatus));
+        List<Map<String, Object>> decisionEvents = jdbcTemplate.queryForList(
+                "SELECT request_id FROM audit_event_outbox WHERE request_id IN (:ids) "
+                        + "AND event_type IN ('APPROVED', 'CANCELLED')",
+                new MapSqlParameterSource("ids", requestIds));
+
+        assertEquals(REQUESTS, response.getSucceeded() + response.getFailed());
+        for (Long id : requestIds) {
+            List<Status> won = winners.getOrDefault(id, List.of());
+            assertEquals(1, won.size(), "request " + id + " winners: " + won);
+            assertEquals(won.get(0), finalStatuses.get(id));
+            assertEquals(1, decisionEvents.stream()
+                    .filter(row -> ((Number) row.get("request_id")).longValue() == id)
+                    .count(), "request " + id);
+        }
+    }
+
+    private static Callable<Void> attempt(Map<Long, List<Status>> winners, Long id, Status target,
+                                          Runnable transition) {
+        return () -> {
+            try {
+                transition.run();
+                winners.computeIfAbsent(id, key -> Collections.synchronizedList(new ArrayList<>())).add(target);
+            } catch (ConflictException e) {
+                // Lost the race after reading SUBMITTED
+                assertTrue(e.getCurrent().getStatus() != Status.SUBMITTED);
+            } catch (BadRequestException e) {
+                // Read the request after another transition had already committed
+                assertTrue(e.getMessage().contains("SUBMITTED status"));
+            }
+            return null;
+        };
+    }
+
+    private static EventType eventFor(Status status) {
+        return switch (status) {
+            case APPROVED -> EventType.APPROVED;
+            case REJECTED -> EventType.REJECTED;
+            default -> EventType.CANCELLED;
+        };
+    }
+}
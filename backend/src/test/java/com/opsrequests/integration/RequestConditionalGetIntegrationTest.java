@@ -0,0 +1,155 @@
+package com.opsrequests.integration;
+
+import com.opsrequests.dto.request.AddCommentRequest;
+import com.opsrequests.dto.request.ApproveRejectRequest;
+import com.opsrequests.dto.request.UpdateRequestTypeRequest;
+import com.opsrequests.entity.Request;
+import com.opsrequests.entity.Request.Priority;
+import com.opsrequests.entity.Request.Status;
+import com.opsrequests.entity.RequestType;
+import com.opsrequests.entity.User;
+import com.opsrequests.security.UserPrincipal;
+import com.opsrequests.service.AuditOutboxDrainer;
+import com.opsrequests.service.RequestService;
+import com.opsrequests.service.RequestTypeService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class RequestConditionalGetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private RequestTypeService requestTypeService;
+
+    @Autowired
+    private AuditOutboxDrainer auditOutboxDrainer;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private UserPrincipal managerPrincipal;
+    private UserPrincipal employeePrincipal;
+    private UserPrincipal outsiderPrincipal;
+    private RequestType type;
+    private Long requestId;
+
+    @BeforeEach
+    void setUp() {
+        User manager = persistUser("etag-manager@test.com", User.Role.MANAGER, null);
+        User employee = persistUser("etag-employee@test.com", User.Role.EMPLOYEE, manager.getId());
+        managerPrincipal = UserPrincipal.create(manager);
+        employeePrincipal = UserPrincipal.create(employee);
+        outsiderPrincipal = UserPrincipal.create(persistUser("etag-outsider@test.com", User.Role.EMPLOYEE, null));
+
+        type = RequestType.builder().code("ETAG").name("Conditional").active(true).build();
+        entityManager.persist(type);
+        Request request = Request.builder()
+                .requester(employee).manager(manager).type(type)
+                .title("Cached request").priority(Priority.MEDIUM).status(Status.SUBMITTED)
+                .build();
+        entityManager.persist(request);
+        requestId = request.getId();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void requestDetail_RevalidatesUntilTheRequestChanges() throws Exception {
+        String etag = detailEtag();
+        mockMvc.perform(get("/api/requests/{id}", requestId)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+                        .with(user(employeePrincipal)))
+                .andExpect(status().isNotModified());
+
+        AddCommentRequest comment = new AddCommentRequest();
+        comment.setComment("Any update?");
+        requestService.addComment(requestId, comment, employeePrincipal);
+        String afterComment = detailEtag();
+        assertNotEquals(etag, afterComment);
+
+        // The audit event lands after the comment, once the outbox is drained
+        auditOutboxDrainer.drain();
+        String afterDrain = detailEtag();
+        assertNotEquals(afterComment, afterDrain);
+
+        UpdateRequestTypeRequest rename = new UpdateRequestTypeRequest();
+        rename.setName("Renamed");
+        requestTypeService.updateRequestType(type.getId(), rename);
+        mockMvc.perform(get("/api/requests/{id}", requestId)
+                        .header(HttpHeaders.IF_NONE_MATCH, afterDrain)
+                        .with(user(employeePrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.type.name").value("Renamed"));
+    }
+
+    @Test
+    void requestList_RevalidatesUntilTheQueueChanges() throws Exception {
+        String etag = mockMvc.perform(get("/api/requests").with(user(managerPrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/requests").header(HttpHeaders.IF_NONE_MATCH, etag).with(user(managerPrincipal)))
+                .andExpect(status().isNotModified());
+        // Same rows for a different caller scope still get their own version
+        mockMvc.perform(get("/api/requests").header(HttpHeaders.IF_NONE_MATCH, etag).with(user(employeePrincipal)))
+                .andExpect(status().isOk());
+
+        ApproveRejectRequest approve = new ApproveRejectRequest();
+        approve.setComment("Approved");
+        requestService.approveRequest(requestId, approve, managerPrincipal);
+
+        mockMvc.perform(get("/api/requests").header(HttpHeaders.IF_NONE_MATCH, etag).with(user(managerPrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    void requestDetail_OutsideScopeIsRefusedBeforeTheVersionCheck() throws Exception {
+        mockMvc.perform(get("/api/requests/{id}", requestId)
+                        .header(HttpHeaders.IF_NONE_MATCH, detailEtag())
+                        .with(user(outsiderPrincipal)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private String detailEtag() throws Exception {
+        return mockMvc.perform(get("/api/requests/{id}", requestId).with(user(employeePrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("no-cache")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private User persistUser(String email, User.Role role, Long managerId) {
+        User user = User.builder()
+                .email(email).password("password").role(role).managerId(managerId).active(true)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
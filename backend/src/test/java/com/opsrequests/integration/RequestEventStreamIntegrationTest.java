@@ -0,0 +1,175 @@
+package com.opsrequests.integration;
+
+import com.opsrequests.dto.request.AddCommentRequest;
+import com.opsrequests.dto.request.ApproveRejectRequest;
+import com.opsrequests.entity.Request;
+import com.opsrequests.entity.Request.Priority;
+import com.opsrequests.entity.Request.Status;
+import com.opsrequests.entity.RequestType;
+import com.opsrequests.entity.User;
+import com.opsrequests.repository.RequestRepository;
+import com.opsrequests.repository.RequestTypeRepository;
+import com.opsrequests.repository.UserRepository;
+import com.opsrequests.security.UserPrincipal;
+import com.opsrequests.service.RequestEventHub;
+import com.opsrequests.service.RequestService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcPrint;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Opens event streams through MockMvc and commits changes for real, since events are only sent
+ * after commit. Result printing is off: it reads the response headers while sender threads may
+ * still be writing the stream.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc(print = MockMvcPrint.NONE)
+@ActiveProfiles("test")
+class RequestEventStreamIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private RequestEventHub requestEventHub;
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RequestTypeRepository requestTypeRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User manager;
+    private User otherManager;
+    private User employee;
+    private RequestType type;
+    private Request request;
+    private final List<MvcResult> streams = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        manager = userRepository.save(User.builder()
+                .email("sse-manager@test.com").password("password").role(User.Role.MANAGER).active(true).build());
+        otherManager = userRepository.save(User.builder()
+                .email("sse-other@test.com").password("password").role(User.Role.MANAGER).active(true).build());
+        employee = userRepository.save(User.builder()
+                .email("sse-employee@test.com").password("password").role(User.Role.EMPLOYEE)
+                .managerId(manager.getId()).active(true).build());
+        type = requestTypeRepository.save(RequestType.builder().code("SSE").name("Events").active(true).build());
+        request = requestRepository.save(Request.builder()
+                .requester(employee).manager(manager).type(type)
+                .title("Pushed request").priority(Priority.MEDIUM).status(Status.SUBMITTED)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (MvcResult stream : streams) {
+            stream.getRequest().getAsyncContext().complete();
+        }
+        MapSqlParameterSource ids = new MapSqlParameterSource("id", request.getId());
+        jdbcTemplate.update("DELETE FROM audit_event_outbox WHERE request_id = :id", ids);
+        jdbcTemplate.update("DELETE FROM request_comments WHERE request_id = :id", ids);
+        jdbcTemplate.update("DELETE FROM request_list_view WHERE request_id = :id", ids);
+        jdbcTemplate.update("DELETE FROM requests WHERE id = :id", ids);
+        requestTypeRepository.delete(type);
+        userRepository.deleteAll(List.of(employee, otherManager, manager));
+    }
+
+    @Test
+    void committedChanges_ArePushedToTheRequestParticipants() throws Exception {
+        MvcResult managerStream = open(manager);
+        MvcResult employeeStream = open(employee);
+        MvcResult otherStream = open(otherManager);
+
+        ApproveRejectRequest decision = new ApproveRejectRequest();
+        decision.setComment("Approved");
+        requestService.approveRequest(request.getId(), decision, UserPrincipal.create(manager));
+        AddCommentRequest comment = new AddCommentRequest();
+        comment.setComment("Thanks");
+        requestService.addComment(request.getId(), comment, UserPrincipal.create(employee));
+
+        String statusChanged = "event:STATUS_CHANGED\ndata:{\"type\":\"STATUS_CHANGED\",\"requestId\":"
+                + request.getId() + ",\"status\":\"APPROVED\",\"actorId\":" + manager.getId();
+        String commentAdded = "event:COMMENT_ADDED\ndata:{\"type\":\"COMMENT_ADDED\",\"requestId\":"
+                + request.getId() + ",\"status\":\"APPROVED\",\"actorId\":" + employee.getId();
+        awaitContent(managerStream, content -> content.contains(statusChanged) && content.contains(commentAdded));
+        awaitContent(employeeStream, content -> content.contains(statusChanged) && content.contains(commentAdded));
+
+        requestEventHub.heartbeat();
+        String other = awaitContent(otherStream, content -> content.contains(":heartbeat"));
+        assertFalse(other.contains("event:"), other);
+    }
+
+    @Test
+    void rolledBackChanges_AreNotPushed() throws Exception {
+        MvcResult managerStream = open(manager);
+        ApproveRejectRequest decision = new ApproveRejectRequest();
+        decision.setComment("Approved, then rolled back");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            requestService.approveRequest(request.getId(), decision, UserPrincipal.create(manager));
+            status.setRollbackOnly();
+        });
+        requestEventHub.heartbeat();
+
+        String content = awaitContent(managerStream, received -> received.contains(":heartbeat"));
+        assertFalse(content.contains("event:"), content);
+        assertEquals(Status.SUBMITTED, requestRepository.findById(request.getId()).orElseThrow().getStatus());
+    }
+
+    private MvcResult open(User subscriber) throws Exception {
+        MvcResult stream = mockMvc.perform(get("/api/requests/events").with(user(UserPrincipal.create(subscriber))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        streams.add(stream);
+        awaitContent(stream, content -> content.contains(":connected"));
+        return stream;
+    }
+
+    private static String awaitContent(MvcResult stream, Predicate<String> condition) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = stream.getResponse().getContentAsString();
+        while (!condition.test(content)) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Stream did not receive the expected events: " + content);
+            }
+            Thread.sleep(10);
+            content = stream.getResponse().getContentAsString();
+        }
+        return content;
+    }
+}
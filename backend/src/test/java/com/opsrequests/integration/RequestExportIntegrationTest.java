@@ -0,0 +1,115 @@
+package com.opsrequests.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opsrequests.dto.request.ApproveRejectRequest;
+import com.opsrequests.dto.request.CreateRequestRequest;
+import com.opsrequests.dto.response.RequestResponse;
+import com.opsrequests.entity.Request.Priority;
+import com.opsrequests.entity.RequestType;
+import com.opsrequests.entity.User;
+import com.opsrequests.repository.RequestTypeRepository;
+import com.opsrequests.repository.UserRepository;
+import com.opsrequests.security.UserPrincipal;
+import com.opsrequests.service.AuditOutboxDrainer;
+import com.opsrequests.service.RequestExportService;
+import com.opsrequests.service.RequestService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class RequestExportIntegrationTest {
+
+    @Autowired
+    private RequestExportService requestExportService;
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RequestTypeRepository requestTypeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AuditOutboxDrainer auditOutboxDrainer;
+
+    private RequestResponse approved;
+
+    @BeforeEach
+    void setUp() {
+        User manager = userRepository.save(User.builder()
+                .email("export-manager@test.com").password("password").role(User.Role.MANAGER).active(true)
+                .build());
+        User employee = userRepository.save(User.builder()
+                .email("export-employee@test.com").password("password").role(User.Role.EMPLOYEE)
+                .managerId(manager.getId()).active(true)
+                .build());
+        RequestType type = requestTypeRepository.save(RequestType.builder()
+                .code("EXPORT").name("Export").active(true)
+                .build());
+
+        CreateRequestRequest create = new CreateRequestRequest();
+        create.setTypeId(type.getId());
+        create.setTitle("Laptop, \"fast\" one");
+        create.setPriority(Priority.HIGH);
+        approved = requestService.createRequest(create, UserPrincipal.create(employee));
+
+        ApproveRejectRequest approve = new ApproveRejectRequest();
+        approve.setComment("Approved,\nwith notes");
+        requestService.approveRequest(approved.getId(), approve, UserPrincipal.create(manager));
+        auditOutboxDrainer.drain();
+    }
+
+    @Test
+    void exportNdjson_WritesOneLinePerAuditEvent() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        requestExportService.export(RequestExportService.Format.NDJSON, out);
+
+        List<JsonNode> rows = out.toString(StandardCharsets.UTF_8).lines()
+                .map(this::readTree)
+                .filter(row -> row.get("requestId").asLong() == approved.getId())
+                .toList();
+
+        assertEquals(3, rows.size());
+        assertEquals("CREATED", rows.get(0).get("eventType").asText());
+        assertEquals("APPROVED", rows.get(1).get("eventType").asText());
+        assertEquals("export-manager@test.com", rows.get(1).get("actorEmail").asText());
+        assertEquals("EXPORT", rows.get(2).get("typeCode").asText());
+    }
+
+    @Test
+    void exportCsv_QuotesSpecialCharacters() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        requestExportService.export(RequestExportService.Format.CSV, out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.startsWith("request_id,title,type_code,"));
+        assertTrue(csv.contains(approved.getId() + ",\"Laptop, \"\"fast\"\" one\",EXPORT,export-employee@test.com"));
+        assertTrue(csv.contains("\"Approved,\nwith notes\""));
+    }
+
+    private JsonNode readTree(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (Exception e) {
+            throw new AssertionError("Invalid NDJSON line: " + line, e);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.opsrequests.integration;
+
+import com.opsrequests.entity.Request;
+import com.opsrequests.entity.Request.Priority;
+import com.opsrequests.entity.Request.Status;
+import com.opsrequests.entity.RequestAuditEvent;
+import com.opsrequests.entity.RequestAuditEvent.EventType;
+import com.opsrequests.entity.RequestComment;
+import com.opsrequests.entity.RequestType;
+import com.opsrequests.entity.User;
+import com.opsrequests.security.UserPrincipal;
+import com.opsrequests.service.RequestDetailCache;
+import com.opsrequests.support.SqlStatementBudget;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards list and detail endpoints against N+1 loads: every row uses a distinct requester,
+ * manager and author, so a lazy association touched per row would blow the budget.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class RequestQueryBudgetIntegrationTest {
+
+    private static final int ROWS = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private RequestDetailCache requestDetailCache;
+
+    private UserPrincipal adminPrincipal;
+    private UserPrincipal outsiderPrincipal;
+    private Long detailRequestId;
+    private String listEtag;
+    private String detailEtag;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        User admin = persistUser("budget-admin@test.com", User.Role.ADMIN, null);
+        adminPrincipal = UserPrincipal.create(admin);
+        outsiderPrincipal = UserPrincipal.create(persistUser("budget-outsider@test.com", User.Role.EMPLOYEE, null));
+
+        for (int i = 0; i < ROWS; i++) {
+            RequestType type = RequestType.builder().code("BUDGET_" + i).name("Budget " + i).active(true).build();
+            entityManager.persist(type);
+
+            User manager = persistUser("budget-manager" + i + "@test.com", User.Role.MANAGER, null);
+            User employee = persistUser("budget-employee" + i + "@test.com", User.Role.EMPLOYEE, manager.getId());
+
+            Request request = Request.builder()
+                    .requester(employee)
+                    .manager(manager)
+                    .type(type)
+                    .title("Budget request " + i)
+                    .priority(Priority.MEDIUM)
+                    .status(Status.SUBMITTED)
+                    .build();
+            entityManager.persist(request);
+
+            User author = persistUser("budget-author" + i + "@test.com", User.Role.EMPLOYEE, null);
+            if (detailRequestId == null) {
+                detailRequestId = request.getId();
+            }
+            Request detailRequest = entityManager.getReference(Request.class, detailRequestId);
+            entityManager.persist(RequestComment.builder()
+                    .request(detailRequest).author(author).comment("Comment " + i).build());
+            entityManager.persist(RequestAuditEvent.builder()
+                    .request(detailRequest).actor(author).eventType(EventType.COMMENT_ADDED).build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        listEtag = mockMvc.perform(get("/api/requests").with(user(adminPrincipal)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        detailEtag = mockMvc.perform(get("/api/requests/{id}", detailRequestId).with(user(adminPrincipal)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    @Test
+    @SqlStatementBudget(2)
+    void listRequests_AdminChecksVersionAndLoadsRowsInOneStatement() throws Exception {
+        mockMvc.perform(get("/api/requests").with(user(adminPrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(ROWS)));
+    }
+
+    @Test
+    @SqlStatementBudget(1)
+    void listRequests_UnchangedCostsOnlyTheVersionCheck() throws Exception {
+        mockMvc.perform(get("/api/requests").header(HttpHeaders.IF_NONE_MATCH, listEtag).with(user(adminPrincipal)))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @SqlStatementBudget(1)
+    void listRequestPage_LoadsPageInOneStatement() throws Exception {
+        mockMvc.perform(get("/api/requests/page").param("limit", "10").with(user(adminPrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(10)));
+    }
+
+    @Test
+    @SqlStatementBudget(4)
+    void requestDetail_LoadsCommentsAndAuditEventsWithAuthors() throws Exception {
+        requestDetailCache.evict(detailRequestId);
+        mockMvc.perform(get("/api/requests/{id}", detailRequestId).with(user(adminPrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments", hasSize(ROWS)))
+                .andExpect(jsonPath("$.auditEvents", hasSize(ROWS)));
+    }
+
+    @Test
+    @SqlStatementBudget(0)
+    void requestDetail_CachedCostsNoStatements() throws Exception {
+        mockMvc.perform(get("/api/requests/{id}", detailRequestId).with(user(adminPrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments", hasSize(ROWS)));
+    }
+
+    @Test
+    @SqlStatementBudget(0)
+    void requestDetail_UnchangedAndCachedCostsNoStatements() throws Exception {
+        mockMvc.perform(get("/api/requests/{id}", detailRequestId)
+                        .header(HttpHeaders.IF_NONE_MATCH, detailEtag)
+                        .with(user(adminPrincipal)))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @SqlStatementBudget(2)
+    void requestComments_PageLoadsWithAuthors() throws Exception {
+        mockMvc.perform(get("/api/requests/{id}/comments", detailRequestId).param("limit", "10")
+                        .with(user(adminPrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(10)))
+                .andExpect(jsonPath("$.items[9].author.email").exists())
+                .andExpect(jsonPath("$.nextCursor").exists());
+    }
+
+    @Test
+    @SqlStatementBudget(2)
+    void requestAuditEvents_PageLoadsWithActors() throws Exception {
+        mockMvc.perform(get("/api/requests/{id}/audit-events", detailRequestId).param("limit", "10")
+                        .with(user(adminPrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(10)))
+                .andExpect(jsonPath("$.items[9].actor.email").exists())
+                .andExpect(jsonPath("$.nextCursor").exists());
+    }
+
+    @Test
+    @SqlStatementBudget(2)
+    void requestDetail_OutsideScopeCostsScopedLookupAndExistenceCheck() throws Exception {
+        requestDetailCache.evict(detailRequestId);
+        mockMvc.perform(get("/api/requests/{id}", detailRequestId).with(user(outsiderPrincipal)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @SqlStatementBudget(0)
+    void requestDetail_OutsideScopeIsRefusedFromCachedParties() throws Exception {
+        mockMvc.perform(get("/api/requests/{id}", detailRequestId).with(user(outsiderPrincipal)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @SqlStatementBudget(2)
+    void addComment_OutsideScopeCostsScopedLookupAndExistenceCheck() throws Exception {
+        mockMvc.perform(post("/api/requests/{id}/comments", detailRequestId)
+                        .with(user(outsiderPrincipal))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"comment\":\"Not my request\"}"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private User persistUser(String email, User.Role role, Long managerId) {
+        User user = User.builder()
+                .email(email)
+                .password("password")
+                .role(role)
+                .managerId(managerId)
+                .active(true)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,227 @@
+package com.opsrequests.integration;
+
+import com.opsrequests.dto.request.AddCommentRequest;
+import com.opsrequests.dto.request.ApproveRejectRequest;
+import com.opsrequests.dto.request.CreateRequestRequest;
+import com.opsrequests.dto.response.AuditEventResponse;
+import com.opsrequests.dto.response.CommentResponse;
+import com.opsrequests.dto.response.RequestDetailResponse;
+import com.opsrequests.dto.response.RequestResponse;
+import com.opsrequests.entity.Request.Priority;
+import com.opsrequests.entity.Request.Status;
+import com.opsrequests.entity.RequestType;
+import com.opsrequests.entity.User;
+import com.opsrequests.dto.request.UpdateRequestTypeRequest;
+import com.opsrequests.repository.JdbcRequestReadRepository;
+import com.opsrequests.repository.ReadModelRequestReadRepository;
+import com.opsrequests.repository.RequestAuditEventRepository;
+import com.opsrequests.repository.RequestCommentRepository;
+import com.opsrequests.repository.RequestListViewRepository;
+import com.opsrequests.repository.RequestFilter;
+import com.opsrequests.repository.RequestReadRepository;
+import com.opsrequests.repository.RequestTypeRepository;
+import com.opsrequests.repository.UserRepository;
+import com.opsrequests.security.UserPrincipal;
+import com.opsrequests.service.AuditOutboxDrainer;
+import com.opsrequests.service.RequestService;
+import com.opsrequests.service.RequestTypeService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The JDBC and read-model paths must render exactly what the default JPA path renders.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class RequestReadPathIntegrationTest {
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private RequestReadRepository jpaReadRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RequestTypeRepository requestTypeRepository;
+
+    @Autowired
+    private RequestTypeService requestTypeService;
+
+    @Autowired
+    private RequestListViewRepository requestListViewRepository;
+
+    @Autowired
+    private RequestCommentRepository commentRepository;
+
+    @Autowired
+    private RequestAuditEventRepository auditEventRepository;
+
+    @Autowired
+    private AuditOutboxDrainer auditOutboxDrainer;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private JdbcRequestReadRepository jdbcReadRepository;
+    private ReadModelRequestReadRepository viewReadRepository;
+    private User manager;
+    private RequestType type;
+    private Long approvedRequestId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcReadRepository = new JdbcRequestReadRepository(jdbcTemplate);
+        viewReadRepository = new ReadModelRequestReadRepository(requestListViewRepository, commentRepository,
+                auditEventRepository);
+
+        manager = userRepository.save(User.builder()
+                .email("readpath-manager@test.com").password("password").role(User.Role.MANAGER).active(true)
+                .build());
+        User employee = userRepository.save(User.builder()
+                .email("readpath-employee@test.com").password("password").role(User.Role.EMPLOYEE)
+                .managerId(manager.getId()).active(true)
+                .build());
+        type = requestTypeRepository.save(RequestType.builder()
+                .code("READPATH").name("Read Path").active(true)
+                .build());
+
+        UserPrincipal employeePrincipal = UserPrincipal.create(employee);
+        UserPrincipal managerPrincipal = UserPrincipal.create(manager);
+
+        for (int i = 0; i < 3; i++) {
+            CreateRequestRequest create = new CreateRequestRequest();
+            create.setTypeId(type.getId());
+            create.setTitle("Read path " + i);
+            create.setDescription(i == 0 ? null : "Description " + i);
+            create.setAmount(i == 1 ? new BigDecimal("12.50") : null);
+            create.setPriority(Priority.values()[i]);
+            RequestResponse created = requestService.createRequest(create, employeePrincipal);
+            if (i == 0) {
+                approvedRequestId = created.getId();
+            }
+        }
+
+        ApproveRejectRequest approve = new ApproveRejectRequest();
+        approve.setComment("Looks good");
+        requestService.approveRequest(approvedRequestId, approve, managerPrincipal);
+
+        AddCommentRequest comment = new AddCommentRequest();
+        comment.setComment("Thanks");
+        requestService.addComment(approvedRequestId, comment, employeePrincipal);
+        auditOutboxDrainer.drain();
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findRequests_JdbcMatchesJpa() {
+        RequestFilter all = RequestFilter.builder().managerId(manager.getId()).build();
+        RequestFilter submittedPage = RequestFilter.builder()
+                .managerId(manager.getId()).status(Status.SUBMITTED).limit(1).build();
+
+        List<RequestResponse> jpaRows = jpaReadRepository.findRequests(all);
+        assertEquals(3, jpaRows.size());
+        assertEquals(jpaRows, jdbcReadRepository.findRequests(all));
+        assertEquals(jpaReadRepository.findRequests(submittedPage), jdbcReadRepository.findRequests(submittedPage));
+    }
+
+    @Test
+    void findRequestDetail_JdbcMatchesJpa() {
+        RequestFilter visible = RequestFilter.builder().participantId(manager.getId()).build();
+        RequestDetailResponse jpaDetail = jpaReadRepository.findRequestDetail(approvedRequestId, visible).orElseThrow();
+
+        assertEquals(jpaDetail, jdbcReadRepository.findRequestDetail(approvedRequestId, visible).orElseThrow());
+        assertTrue(jdbcReadRepository.findRequestDetail(-1L, visible).isEmpty());
+    }
+
+    @Test
+    void timelines_MatchOnEveryPath() {
+        List<CommentResponse> comments = jpaReadRepository.findComments(approvedRequestId, null, null, 10);
+        assertEquals(2, comments.size());
+        assertEquals(comments, jdbcReadRepository.findComments(approvedRequestId, null, null, 10));
+        assertEquals(comments, viewReadRepository.findComments(approvedRequestId, null, null, 10));
+
+        CommentResponse newest = comments.get(0);
+        List<CommentResponse> older = jpaReadRepository.findComments(approvedRequestId, newest.getCreatedAt(),
+                newest.getId(), 10);
+        assertEquals(comments.subList(1, 2), older);
+        assertEquals(older, jdbcReadRepository.findComments(approvedRequestId, newest.getCreatedAt(),
+                newest.getId(), 10));
+
+        List<AuditEventResponse> auditEvents = jpaReadRepository.findAuditEvents(approvedRequestId, null, null, 1);
+        assertEquals(1, auditEvents.size());
+        assertEquals(auditEvents, jdbcReadRepository.findAuditEvents(approvedRequestId, null, null, 1));
+        assertEquals(auditEvents, viewReadRepository.findAuditEvents(approvedRequestId, null, null, 1));
+        assertEquals(jpaReadRepository.countAuditEvents(approvedRequestId),
+                jdbcReadRepository.countAuditEvents(approvedRequestId));
+        assertEquals(2, jdbcReadRepository.countComments(approvedRequestId));
+    }
+
+    @Test
+    void findRequestDetail_OutsideScopeIsEmptyOnEveryPath() {
+        RequestFilter notTheirs = RequestFilter.builder().requesterId(manager.getId()).build();
+
+        assertTrue(jpaReadRepository.findRequestDetail(approvedRequestId, notTheirs).isEmpty());
+        assertTrue(jdbcReadRepository.findRequestDetail(approvedRequestId, notTheirs).isEmpty());
+        assertTrue(viewReadRepository.findRequestDetail(approvedRequestId, notTheirs).isEmpty());
+    }
+
+    @Test
+    void findRequests_ViewMatchesJpa() {
+        RequestFilter all = RequestFilter.builder().managerId(manager.getId()).build();
+        RequestFilter submittedPage = RequestFilter.builder()
+                .managerId(manager.getId()).status(Status.SUBMITTED).limit(1).build();
+
+        assertEquals(jpaReadRepository.findRequests(all), viewReadRepository.findRequests(all));
+        assertEquals(jpaReadRepository.findRequests(submittedPage), viewReadRepository.findRequests(submittedPage));
+        RequestFilter visible = RequestFilter.builder().participantId(manager.getId()).build();
+        assertEquals(jpaReadRepository.findRequestDetail(approvedRequestId, visible).orElseThrow(),
+                viewReadRepository.findRequestDetail(approvedRequestId, visible).orElseThrow());
+    }
+
+    @Test
+    void updateRequestType_PropagatesToView() {
+        UpdateRequestTypeRequest update = new UpdateRequestTypeRequest();
+        update.setName("Renamed");
+        requestTypeService.updateRequestType(type.getId(), update);
+        entityManager.flush();
+        entityManager.clear();
+
+        RequestFilter all = RequestFilter.builder().managerId(manager.getId()).build();
+        assertTrue(viewReadRepository.findRequests(all).stream()
+                .allMatch(row -> "Renamed".equals(row.getType().getName())));
+        assertEquals(jpaReadRepository.findRequests(all), viewReadRepository.findRequests(all));
+    }
+
+    @Test
+    void rebuildReadModel_RegeneratesRows() {
+        RequestFilter all = RequestFilter.builder().managerId(manager.getId()).build();
+        requestListViewRepository.deleteAllInBatch();
+        assertTrue(viewReadRepository.findRequests(all).isEmpty());
+
+        int rows = requestService.rebuildReadModel();
+        entityManager.clear();
+
+        assertEquals(jpaReadRepository.findRequests(RequestFilter.builder().build()).size(), rows);
+        assertEquals(jpaReadRepository.findRequests(all), viewReadRepository.findRequests(all));
+    }
+}
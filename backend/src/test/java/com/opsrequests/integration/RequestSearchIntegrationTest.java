@@ -0,0 +1,133 @@
+package com.opsrequests.integration;
+
+import com.opsrequests.dto.request.AddCommentRequest;
+import com.opsrequests.dto.request.CreateRequestRequest;
+import com.opsrequests.dto.request.UpdateRequestRequest;
+import com.opsrequests.dto.response.RequestResponse;
+import com.opsrequests.entity.Request.Priority;
+import com.opsrequests.entity.RequestType;
+import com.opsrequests.entity.User;
+import com.opsrequests.exception.BadRequestException;
+import com.opsrequests.repository.RequestTypeRepository;
+import com.opsrequests.repository.UserRepository;
+import com.opsrequests.security.UserPrincipal;
+import com.opsrequests.service.RequestService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Exercises search through the Lucene fallback index used by the test profile.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class RequestSearchIntegrationTest {
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RequestTypeRepository requestTypeRepository;
+
+    private UserPrincipal employeePrincipal;
+    private UserPrincipal otherEmployeePrincipal;
+    private UserPrincipal managerPrincipal;
+    private UserPrincipal adminPrincipal;
+    private RequestType type;
+
+    @BeforeEach
+    void setUp() {
+        User manager = userRepository.save(User.builder()
+                .email("search-manager@test.com").password("password").role(User.Role.MANAGER).active(true)
+                .build());
+        User employee = userRepository.save(User.builder()
+                .email("search-employee@test.com").password("password").role(User.Role.EMPLOYEE)
+                .managerId(manager.getId()).active(true)
+                .build());
+        User otherEmployee = userRepository.save(User.builder()
+                .email("search-other@test.com").password("password").role(User.Role.EMPLOYEE).active(true)
+                .build());
+        User admin = userRepository.save(User.builder()
+                .email("search-admin@test.com").password("password").role(User.Role.ADMIN).active(true)
+                .build());
+        type = requestTypeRepository.save(RequestType.builder()
+                .code("SEARCH").name("Search").active(true)
+                .build());
+
+        employeePrincipal = UserPrincipal.create(employee);
+        otherEmployeePrincipal = UserPrincipal.create(otherEmployee);
+        managerPrincipal = UserPrincipal.create(manager);
+        adminPrincipal = UserPrincipal.create(admin);
+    }
+
+    @Test
+    void search_RanksTitleMatchesAboveDescriptionAndComments() {
+        RequestResponse inComment = create(employeePrincipal, "Office chair", "Ergonomic chair");
+        RequestResponse inDescription = create(employeePrincipal, "Hardware order", "Replacement keyboards for the team");
+        RequestResponse inTitle = create(employeePrincipal, "Keyboard replacement", "Broken keys");
+
+        AddCommentRequest comment = new AddCommentRequest();
+        comment.setComment("Please add a keyboard tray as well");
+        requestService.addComment(inComment.getId(), comment, employeePrincipal);
+
+        List<Long> ids = ids(requestService.searchRequests(employeePrincipal, "keyboards", null));
+
+        assertEquals(List.of(inTitle.getId(), inDescription.getId(), inComment.getId()), ids);
+    }
+
+    @Test
+    void search_KeepsRoleScoping() {
+        RequestResponse own = create(employeePrincipal, "Projector bulb", null);
+        RequestResponse foreign = create(otherEmployeePrincipal, "Projector cable", null);
+
+        assertEquals(List.of(own.getId()), ids(requestService.searchRequests(employeePrincipal, "projector", null)));
+        assertEquals(List.of(foreign.getId()),
+                ids(requestService.searchRequests(otherEmployeePrincipal, "projector", null)));
+        assertEquals(List.of(own.getId()), ids(requestService.searchRequests(managerPrincipal, "projector", null)));
+        assertEquals(2, requestService.searchRequests(adminPrincipal, "projector", null).size());
+    }
+
+    @Test
+    void search_ReflectsUpdates() {
+        RequestResponse created = create(employeePrincipal, "Monitor arm", null);
+
+        UpdateRequestRequest update = new UpdateRequestRequest();
+        update.setTypeId(type.getId());
+        update.setTitle("Standing desk");
+        update.setPriority(Priority.LOW);
+        requestService.updateRequest(created.getId(), update, employeePrincipal);
+
+        assertTrue(requestService.searchRequests(employeePrincipal, "monitor", null).isEmpty());
+        assertEquals(List.of(created.getId()), ids(requestService.searchRequests(employeePrincipal, "desk", null)));
+    }
+
+    @Test
+    void search_RejectsBlankQuery() {
+        assertThrows(BadRequestException.class, () -> requestService.searchRequests(employeePrincipal, " ", null));
+    }
+
+    private RequestResponse create(UserPrincipal principal, String title, String description) {
+        CreateRequestRequest create = new CreateRequestRequest();
+        create.setTypeId(type.getId());
+        create.setTitle(title);
+        create.setDescription(description);
+        create.setPriority(Priority.MEDIUM);
+        return requestService.createRequest(create, principal);
+    }
+
+    private static List<Long> ids(List<RequestResponse> rows) {
+        return rows.stream().map(RequestResponse::getId).collect(Collectors.toList());
+    }
+}
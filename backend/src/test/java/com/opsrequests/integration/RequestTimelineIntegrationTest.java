@@ -0,0 +1,138 @@
+package com.opsrequests.integration;
+
+import com.opsrequests.dto.request.AddCommentRequest;
+import com.opsrequests.dto.response.AuditEventPageResponse;
+import com.opsrequests.dto.response.CommentPageResponse;
+import com.opsrequests.dto.response.CommentResponse;
+import com.opsrequests.dto.response.RequestDetailResponse;
+import com.opsrequests.entity.Request;
+import com.opsrequests.entity.Request.Priority;
+import com.opsrequests.entity.Request.Status;
+import com.opsrequests.entity.RequestType;
+import com.opsrequests.entity.User;
+import com.opsrequests.exception.BadRequestException;
+import com.opsrequests.exception.UnauthorizedException;
+import com.opsrequests.security.UserPrincipal;
+import com.opsrequests.service.AuditOutboxDrainer;
+import com.opsrequests.service.RequestService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class RequestTimelineIntegrationTest {
+
+    private static final int COMMENTS = 25;
+    private static final int TIMELINE_SIZE = 20;
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private AuditOutboxDrainer auditOutboxDrainer;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private UserPrincipal employeePrincipal;
+    private UserPrincipal outsiderPrincipal;
+    private Long requestId;
+
+    @BeforeEach
+    void setUp() {
+        User employee = persistUser("timeline-employee@test.com");
+        employeePrincipal = UserPrincipal.create(employee);
+        outsiderPrincipal = UserPrincipal.create(persistUser("timeline-outsider@test.com"));
+
+        RequestType type = RequestType.builder().code("TIMELINE").name("Timeline").active(true).build();
+        entityManager.persist(type);
+        Request request = Request.builder()
+                .requester(employee).type(type).title("Long discussion")
+                .priority(Priority.MEDIUM).status(Status.SUBMITTED)
+                .build();
+        entityManager.persist(request);
+        requestId = request.getId();
+
+        for (int i = 0; i < COMMENTS; i++) {
+            AddCommentRequest comment = new AddCommentRequest();
+            comment.setComment("Comment " + i);
+            requestService.addComment(requestId, comment, employeePrincipal);
+        }
+        auditOutboxDrainer.drain();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void getRequestDetail_EmbedsLatestEntriesWithTotals() {
+        RequestDetailResponse detail = requestService.getRequestDetail(requestId, employeePrincipal);
+
+        assertEquals(TIMELINE_SIZE, detail.getComments().size());
+        assertEquals(COMMENTS, detail.getCommentCount());
+        assertEquals("Comment 5", detail.getComments().get(0).getComment());
+        assertEquals("Comment " + (COMMENTS - 1), detail.getComments().get(TIMELINE_SIZE - 1).getComment());
+        assertNotNull(detail.getCommentsCursor());
+
+        assertEquals(TIMELINE_SIZE, detail.getAuditEvents().size());
+        assertEquals(COMMENTS, detail.getAuditEventCount());
+        assertNotNull(detail.getAuditEventsCursor());
+
+        // The embedded cursor continues with the comments that did not fit
+        CommentPageResponse older = requestService.getComments(requestId, employeePrincipal,
+                detail.getCommentsCursor(), null);
+        assertEquals(List.of("Comment 4", "Comment 3", "Comment 2", "Comment 1", "Comment 0"),
+                older.getItems().stream().map(CommentResponse::getComment).toList());
+        assertNull(older.getNextCursor());
+    }
+
+    @Test
+    void getComments_PagesNewestFirstUntilExhausted() {
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CommentPageResponse page = requestService.getComments(requestId, employeePrincipal, cursor, 10);
+            page.getItems().forEach(comment -> seen.add(comment.getComment()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(COMMENTS, seen.size());
+        assertEquals("Comment " + (COMMENTS - 1), seen.get(0));
+        assertEquals("Comment 0", seen.get(COMMENTS - 1));
+
+        AuditEventPageResponse auditPage = requestService.getAuditEvents(requestId, employeePrincipal, null, 30);
+        assertEquals(COMMENTS, auditPage.getItems().size());
+        assertNull(auditPage.getNextCursor());
+    }
+
+    @Test
+    void getComments_RespectsVisibilityAndRejectsBadCursors() {
+        assertThrows(UnauthorizedException.class,
+                () -> requestService.getComments(requestId, outsiderPrincipal, null, null));
+        assertThrows(UnauthorizedException.class,
+                () -> requestService.getAuditEvents(requestId, outsiderPrincipal, null, null));
+        assertThrows(BadRequestException.class,
+                () -> requestService.getComments(requestId, employeePrincipal, "not-a-cursor", null));
+    }
+
+    private User persistUser(String email) {
+        User user = User.builder()
+                .email(email).password("password").role(User.Role.EMPLOYEE).active(true)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
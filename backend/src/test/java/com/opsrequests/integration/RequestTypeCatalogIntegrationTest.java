@@ -0,0 +1,72 @@
+package com.opsrequests.integration;
+
+import com.opsrequests.entity.RequestType;
+import com.opsrequests.entity.User;
+import com.opsrequests.repository.RequestTypeRepository;
+import com.opsrequests.security.UserPrincipal;
+import com.opsrequests.service.RequestTypeCatalog;
+import com.opsrequests.support.SqlStatementBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class RequestTypeCatalogIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RequestTypeRepository requestTypeRepository;
+
+    @Autowired
+    private RequestTypeCatalog requestTypeCatalog;
+
+    private UserPrincipal employeePrincipal;
+
+    @BeforeEach
+    void setUp() {
+        requestTypeRepository.save(RequestType.builder().code("CATALOG").name("Catalog").active(true).build());
+        requestTypeCatalog.refresh();
+
+        employeePrincipal = new UserPrincipal(1L, "catalog@test.com", null, User.Role.EMPLOYEE, null, true);
+    }
+
+    @AfterTransaction
+    void reloadCommittedCatalog() {
+        // The snapshot was built from fixtures that have now been rolled back
+        requestTypeCatalog.refresh();
+    }
+
+    @Test
+    @SqlStatementBudget(0)
+    void getActiveRequestTypes_RevalidatesWithoutDatabase() throws Exception {
+        String etag = mockMvc.perform(get("/api/request-types").with(user(employeePrincipal)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andExpect(jsonPath("$[?(@.code == 'CATALOG')].name").value("Catalog"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        mockMvc.perform(get("/api/request-types").with(user(employeePrincipal))
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().bytes(new byte[0]));
+    }
+}
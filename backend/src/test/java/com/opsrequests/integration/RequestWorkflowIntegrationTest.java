@@ -4,14 +4,18 @@ import com.opsrequests.dto.request.ApproveRejectRequest;
 import com.opsrequests.dto.request.ChangeStatusRequest;
 import com.opsrequests.dto.request.CreateRequestRequest;
 import com.opsrequests.dto.response.RequestDetailResponse;
+import com.opsrequests.dto.response.RequestPageResponse;
 import com.opsrequests.dto.response.RequestResponse;
 import com.opsrequests.entity.Request.Priority;
 import com.opsrequests.entity.Request.Status;
 import com.opsrequests.entity.RequestType;
 import com.opsrequests.entity.User;
+import com.opsrequests.exception.ResourceNotFoundException;
+import com.opsrequests.exception.UnauthorizedException;
 import com.opsrequests.repository.RequestTypeRepository;
 import com.opsrequests.repository.UserRepository;
 import com.opsrequests.security.UserPrincipal;
+import com.opsrequests.service.AuditOutboxDrainer;
 import com.opsrequests.service.RequestService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,6 +26,9 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -42,6 +49,9 @@ class RequestWorkflowIntegrationTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private AuditOutboxDrainer auditOutboxDrainer;
+
     private User admin;
     private User manager;
     private User employee;
@@ -112,6 +122,7 @@ class RequestWorkflowIntegrationTest {
         approveRequest.setComment("Approved for processing");
 
         requestService.approveRequest(createdRequest.getId(), approveRequest, managerPrincipal);
+        auditOutboxDrainer.drain();
 
         RequestDetailResponse afterApproval = requestService.getRequestDetail(
                 createdRequest.getId(), employeePrincipal);
@@ -134,6 +145,7 @@ class RequestWorkflowIntegrationTest {
         changeToDone.setNote("Request completed successfully");
 
         requestService.changeStatus(createdRequest.getId(), changeToDone, adminPrincipal);
+        auditOutboxDrainer.drain();
 
         RequestDetailResponse finalRequest = requestService.getRequestDetail(
                 createdRequest.getId(), employeePrincipal);
@@ -162,4 +174,67 @@ class RequestWorkflowIntegrationTest {
         assertEquals(1, rejectedRequest.getComments().size());
         assertEquals("Insufficient justification", rejectedRequest.getComments().get(0).getComment());
     }
+
+    @Test
+    void testKeysetPaginationWalksAllRequests() {
+        for (int i = 0; i < 5; i++) {
+            CreateRequestRequest createRequest = new CreateRequestRequest();
+            createRequest.setTypeId(requestType.getId());
+            createRequest.setTitle("Paged Request " + i);
+            createRequest.setPriority(i % 2 == 0 ? Priority.HIGH : Priority.LOW);
+            requestService.createRequest(createRequest, employeePrincipal);
+        }
+
+        Set<Long> seen = new HashSet<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            RequestPageResponse page = requestService.getRequestPage(adminPrincipal, null, null, null,
+                    null, null, cursor, 2);
+            assertTrue(page.getItems().size() <= 2);
+            page.getItems().forEach(r -> assertTrue(seen.add(r.getId())));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(5, seen.size());
+        assertEquals(3, pages);
+
+        RequestPageResponse highOnly = requestService.getRequestPage(employeePrincipal, null, null,
+                Priority.HIGH, null, null, null, 10);
+        assertEquals(3, highOnly.getItems().size());
+        assertNull(highOnly.getNextCursor());
+
+        RequestPageResponse managerView = requestService.getRequestPage(managerPrincipal, Status.SUBMITTED,
+                requestType.getId(), null, null, null, null, 10);
+        assertEquals(5, managerView.getItems().size());
+    }
+
+    @Test
+    void testManagerSeesOwnRequestsOutsideApprovalQueue() {
+        CreateRequestRequest createRequest = new CreateRequestRequest();
+        createRequest.setTypeId(requestType.getId());
+        createRequest.setTitle("Manager's own request");
+        createRequest.setPriority(Priority.LOW);
+        RequestResponse own = requestService.createRequest(createRequest, managerPrincipal);
+
+        createRequest.setTitle("Team request");
+        RequestResponse assigned = requestService.createRequest(createRequest, employeePrincipal);
+
+        // Detail, page and search share one rule: submitted by or assigned to the manager
+        assertEquals(own.getId(), requestService.getRequestDetail(own.getId(), managerPrincipal).getId());
+        Set<Long> visible = new HashSet<>();
+        requestService.getRequestPage(managerPrincipal, null, null, null, null, null, null, 10)
+                .getItems().forEach(r -> visible.add(r.getId()));
+        assertEquals(Set.of(own.getId(), assigned.getId()), visible);
+
+        // The approval queue only holds requests the manager can decide
+        assertEquals(List.of(assigned.getId()), requestService.getRequests(managerPrincipal, null, null, null)
+                .stream().map(RequestResponse::getId).toList());
+
+        assertThrows(UnauthorizedException.class,
+                () -> requestService.getRequestDetail(own.getId(), employeePrincipal));
+        assertThrows(ResourceNotFoundException.class,
+                () -> requestService.getRequestDetail(-1L, employeePrincipal));
+    }
 }
@@ -0,0 +1,170 @@
+package com.opsrequests.integration;
+
+import com.opsrequests.dto.request.ApproveRejectRequest;
+import com.opsrequests.dto.request.ChangeStatusRequest;
+import com.opsrequests.entity.Request;
+import com.opsrequests.entity.Request.Priority;
+import com.opsrequests.entity.Request.Status;
+import com.opsrequests.entity.RequestAuditEvent;
+import com.opsrequests.entity.RequestAuditEvent.EventType;
+import com.opsrequests.entity.RequestComment;
+import com.opsrequests.entity.RequestListView;
+import com.opsrequests.entity.RequestType;
+import com.opsrequests.entity.User;
+import com.opsrequests.security.UserPrincipal;
+import com.opsrequests.service.AuditOutboxDrainer;
+import com.opsrequests.service.RequestReadModelService;
+import com.opsrequests.service.RequestService;
+import com.opsrequests.support.SqlStatementBudget;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Pins the statements issued by each status transition: one request select, one request update, one read-model
+ * update and one batched outbox insert, plus the comment insert for decisions. Each test flushes before the
+ * budget is checked, since the rolled-back test transaction would otherwise never send the inserts. Loading
+ * the actor or the request's parties, or losing the insert batching, would blow the budget.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class RequestWritePathBudgetIntegrationTest {
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private RequestReadModelService requestReadModelService;
+
+    @Autowired
+    private AuditOutboxDrainer auditOutboxDrainer;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private UserPrincipal employeePrincipal;
+    private UserPrincipal managerPrincipal;
+    private UserPrincipal adminPrincipal;
+    private Request request;
+    private Request approvedRequest;
+
+    @BeforeEach
+    void setUp() {
+        User admin = persistUser("write-admin@test.com", User.Role.ADMIN, null);
+        User manager = persistUser("write-manager@test.com", User.Role.MANAGER, null);
+        User employee = persistUser("write-employee@test.com", User.Role.EMPLOYEE, manager.getId());
+        adminPrincipal = UserPrincipal.create(admin);
+        managerPrincipal = UserPrincipal.create(manager);
+        employeePrincipal = UserPrincipal.create(employee);
+
+        RequestType type = RequestType.builder().code("WRITE_PATH").name("Write path").active(true).build();
+        entityManager.persist(type);
+
+        request = Request.builder()
+                .requester(employee)
+                .manager(manager)
+                .type(type)
+                .title("Write path request")
+                .priority(Priority.MEDIUM)
+                .status(Status.SUBMITTED)
+                .build();
+        entityManager.persist(request);
+
+        approvedRequest = Request.builder()
+                .requester(employee)
+                .manager(manager)
+                .type(type)
+                .title("Approved write path request")
+                .priority(Priority.MEDIUM)
+                .status(Status.APPROVED)
+                .build();
+        entityManager.persist(approvedRequest);
+
+        entityManager.flush();
+        requestReadModelService.rebuild();
+        entityManager.clear();
+    }
+
+    @Test
+    @SqlStatementBudget(5)
+    void approveRequest_StaysWithinBudget() {
+        requestService.approveRequest(request.getId(), decision("Approved"), managerPrincipal);
+        entityManager.flush();
+    }
+
+    @Test
+    @SqlStatementBudget(5)
+    void rejectRequest_StaysWithinBudget() {
+        requestService.rejectRequest(request.getId(), decision("Rejected"), managerPrincipal);
+        entityManager.flush();
+    }
+
+    @Test
+    @SqlStatementBudget(4)
+    void cancelRequest_StaysWithinBudget() {
+        requestService.cancelRequest(request.getId(), employeePrincipal);
+        entityManager.flush();
+    }
+
+    @Test
+    @SqlStatementBudget(4)
+    void changeStatus_StaysWithinBudget() {
+        ChangeStatusRequest change = new ChangeStatusRequest();
+        change.setStatus(Status.IN_PROGRESS);
+        change.setNote("Starting");
+
+        requestService.changeStatus(approvedRequest.getId(), change, adminPrincipal);
+        entityManager.flush();
+    }
+
+    @Test
+    void approveRequest_RecordsDecisionCommentAndReadModel() {
+        requestService.approveRequest(request.getId(), decision("Looks good"), managerPrincipal);
+        auditOutboxDrainer.drain();
+        entityManager.clear();
+
+        assertEquals(Status.APPROVED, entityManager.find(Request.class, request.getId()).getStatus());
+        assertEquals(Status.APPROVED, entityManager.find(RequestListView.class, request.getId()).getStatus());
+
+        List<RequestComment> comments = entityManager.createQuery(
+                "SELECT c FROM RequestComment c WHERE c.request.id = :id", RequestComment.class)
+                .setParameter("id", request.getId()).getResultList();
+        assertEquals(1, comments.size());
+        assertEquals("Looks good", comments.get(0).getComment());
+        assertEquals(managerPrincipal.getId(), comments.get(0).getAuthor().getId());
+
+        List<RequestAuditEvent> events = entityManager.createQuery(
+                "SELECT e FROM RequestAuditEvent e WHERE e.request.id = :id ORDER BY e.id", RequestAuditEvent.class)
+                .setParameter("id", request.getId()).getResultList();
+        assertEquals(List.of(EventType.APPROVED, EventType.COMMENT_ADDED),
+                events.stream().map(RequestAuditEvent::getEventType).toList());
+        assertEquals("Looks good", events.get(0).getNote());
+    }
+
+    private static ApproveRejectRequest decision(String comment) {
+        ApproveRejectRequest decision = new ApproveRejectRequest();
+        decision.setComment(comment);
+        return decision;
+    }
+
+    private User persistUser(String email, User.Role role, Long managerId) {
+        User user = User.builder()
+                .email(email)
+                .password("password")
+                .role(role)
+                .managerId(managerId)
+                .active(true)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,87 @@
+package com.opsrequests.security;
+
+import com.opsrequests.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private volatile Thread hashingThread;
+    private final Counter rejections = new SimpleMeterRegistry().counter("executor.rejected.requests");
+
+    private ThreadPoolExecutor executor;
+    private BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(), executor, 200, rejections);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void encode_RunsOnExecutor() {
+        release.countDown();
+
+        assertEquals("hashed:secret", encoder.encode("secret"));
+        assertTrue(encoder.matches("secret", "hashed:secret"));
+        assertNotEquals(Thread.currentThread(), hashingThread);
+    }
+
+    @Test
+    void encode_RejectsWhenPoolAndQueueAreFull() {
+        // Occupy the single worker and the single queue slot
+        executor.submit(() -> release.await(1, TimeUnit.MINUTES));
+        executor.submit(() -> release.await(1, TimeUnit.MINUTES));
+
+        assertThrows(ServiceUnavailableException.class, () -> encoder.encode("rejected"));
+        assertEquals(1.0, rejections.count());
+    }
+
+    @Test
+    void matches_TimesOutWhenWorkerIsStuck() {
+        assertThrows(ServiceUnavailableException.class, () -> encoder.matches("slow", "hashed:slow"));
+        assertEquals(1.0, rejections.count());
+    }
+
+    private class BlockingEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return encodedPassword.equals("hashed:" + rawPassword);
+        }
+
+        private void await() {
+            hashingThread = Thread.currentThread();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
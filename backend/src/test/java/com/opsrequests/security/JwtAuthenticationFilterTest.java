@@ -0,0 +1,147 @@
+package com.opsrequests.security;
+
+import com.opsrequests.entity.User;
+import com.opsrequests.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private JwtTokenProvider tokenProvider;
+    private PrincipalCache principalCache;
+    private MeterRegistry meterRegistry;
+    private JwtAuthenticationFilter filter;
+    private User employee;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.clearContext();
+
+        tokenProvider = new JwtTokenProvider("test-secret-key-for-testing-must-be-at-least-32-characters-long",
+                86400000L, 100);
+
+        principalCache = new PrincipalCache();
+        ReflectionTestUtils.setField(principalCache, "ttlMs", 60000L);
+        ReflectionTestUtils.setField(principalCache, "maxSize", 100);
+
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new JwtAuthenticationFilter(tokenProvider, userRepository, principalCache, meterRegistry);
+
+        employee = User.builder()
+                .id(1L).email("employee@test.com").password("encoded").role(User.Role.EMPLOYEE)
+                .managerId(2L).active(true)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_LoadsPrincipalOncePerTtl() throws Exception {
+        when(userRepository.findCurrentById(1L)).thenReturn(Optional.of(employee));
+        String token = token(employee);
+
+        authenticate(token);
+        SecurityContextHolder.clearContext();
+        UserPrincipal principal = (UserPrincipal) authenticate(token).getPrincipal();
+
+        assertEquals(1L, principal.getId());
+        assertEquals(User.Role.EMPLOYEE, principal.getRole());
+        assertEquals(2L, principal.getManagerId());
+        verify(userRepository, times(1)).findCurrentById(1L);
+        assertEquals(2, authentications("authenticated"));
+    }
+
+    @Test
+    void doFilter_RoleChangeAppliesToIssuedTokens() throws Exception {
+        when(userRepository.findCurrentById(1L)).thenReturn(Optional.of(employee));
+        String token = token(employee);
+        authenticate(token);
+        SecurityContextHolder.clearContext();
+
+        when(userRepository.findCurrentById(1L)).thenReturn(Optional.of(promoted()));
+        principalCache.invalidate(employee.getId());
+
+        assertEquals(User.Role.MANAGER, ((UserPrincipal) authenticate(token).getPrincipal()).getRole());
+    }
+
+    @Test
+    void doFilter_PrincipalLoadedBeforeCommitIsDroppedAfterIt() throws Exception {
+        String token = token(employee);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            principalCache.invalidate(employee.getId());
+            // A request that still read the row before the change committed
+            when(userRepository.findCurrentById(1L)).thenReturn(Optional.of(employee));
+            authenticate(token);
+            SecurityContextHolder.clearContext();
+
+            when(userRepository.findCurrentById(1L)).thenReturn(Optional.of(promoted()));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(User.Role.MANAGER, ((UserPrincipal) authenticate(token).getPrincipal()).getRole());
+    }
+
+    @Test
+    void doFilter_DeactivatedUserIsNotAuthenticated() throws Exception {
+        String token = token(employee);
+        employee.setActive(false);
+        when(userRepository.findCurrentById(1L)).thenReturn(Optional.of(employee));
+
+        assertNull(authenticate(token));
+        assertEquals(1, authentications("rejected"));
+        assertEquals(0, authentications("authenticated"));
+    }
+
+    private User promoted() {
+        return User.builder()
+                .id(1L).email("employee@test.com").password("encoded").role(User.Role.MANAGER).active(true)
+                .build();
+    }
+
+    private long authentications(String outcome) {
+        return meterRegistry.get("security.jwt.authentication").tag("outcome", outcome).timer().count();
+    }
+
+    private String token(User user) {
+        UserPrincipal principal = UserPrincipal.create(user);
+        return tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
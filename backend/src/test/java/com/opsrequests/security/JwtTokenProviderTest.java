@@ -0,0 +1,54 @@
+package com.opsrequests.security;
+
+import com.opsrequests.entity.User;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-testing-must-be-at-least-32-characters-long";
+
+    private final UserPrincipal principal = UserPrincipal.create(User.builder()
+            .id(7L).email("provider@test.com").password("encoded").role(User.Role.ADMIN).active(true)
+            .build());
+
+    @Test
+    void verifyAndExtract_CachesVerifiedTokens() {
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(SECRET, 60000L, 10);
+        String token = token(tokenProvider);
+
+        Claims first = tokenProvider.verifyAndExtract(token);
+
+        assertEquals("7", first.getSubject());
+        assertSame(first, tokenProvider.verifyAndExtract(token));
+    }
+
+    @Test
+    void verifyAndExtract_RejectsTamperedAndForeignTokens() {
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(SECRET, 60000L, 10);
+        String token = token(tokenProvider);
+        tokenProvider.verifyAndExtract(token);
+
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        JwtTokenProvider otherKey = new JwtTokenProvider(SECRET + "-other", 60000L, 10);
+
+        assertNull(tokenProvider.verifyAndExtract(tampered));
+        assertNull(tokenProvider.verifyAndExtract(token(otherKey)));
+        assertNull(tokenProvider.verifyAndExtract("not-a-jwt"));
+    }
+
+    @Test
+    void verifyAndExtract_RejectsExpiredTokens() {
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(SECRET, -1000L, 10);
+
+        assertNull(tokenProvider.verifyAndExtract(token(tokenProvider)));
+    }
+
+    private String token(JwtTokenProvider tokenProvider) {
+        return tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
@@ -76,9 +76,7 @@ class AuthServiceTest {
         when(userRepository.existsByEmail(registerRequest.getEmail())).thenReturn(false);
         when(passwordEncoder.encode(registerRequest.getPassword())).thenReturn("encodedPassword");
         when(userRepository.save(any(User.class))).thenReturn(user);
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(authentication);
-        when(tokenProvider.generateToken(authentication)).thenReturn("jwt-token");
+        when(tokenProvider.generateToken(any(Authentication.class))).thenReturn("jwt-token");
 
         AuthResponse response = authService.register(registerRequest);
 
@@ -90,6 +88,8 @@ class AuthServiceTest {
 
         verify(userRepository).existsByEmail(registerRequest.getEmail());
         verify(userRepository).save(any(User.class));
+        verify(passwordEncoder, times(1)).encode(registerRequest.getPassword());
+        verifyNoInteractions(authenticationManager);
     }
 
     @Test
@@ -0,0 +1,127 @@
+package com.opsrequests.service;
+
+import com.opsrequests.entity.IdempotencyRecord;
+import com.opsrequests.exception.IdempotencyKeyReusedException;
+import com.opsrequests.repository.IdempotencyRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyStoreTest {
+
+    private static final IdempotencyStore.Response CREATED =
+            new IdempotencyStore.Response(201, "application/json", "{\"id\":1}");
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private IdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new IdempotencyStore(idempotencyRecordRepository);
+        ReflectionTestUtils.setField(store, "ttlMs", 60000L);
+        ReflectionTestUtils.setField(store, "maxSize", 100);
+        ReflectionTestUtils.setField(store, "waitTimeoutMs", 10000L);
+    }
+
+    @Test
+    void execute_ConcurrentRetriesCoalesceOntoOneExecution() throws Exception {
+        when(idempotencyRecordRepository.findById("1:key")).thenReturn(Optional.empty());
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<IdempotencyStore.Response>> retries = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                retries.add(executor.submit(() -> store.execute("1:key", "fingerprint", () -> {
+                    executions.incrementAndGet();
+                    running.countDown();
+                    await(release);
+                    return CREATED;
+                })));
+            }
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+            release.countDown();
+            for (Future<IdempotencyStore.Response> retry : retries) {
+                assertEquals(CREATED, retry.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, executions.get());
+        verify(idempotencyRecordRepository, times(1)).save(any(IdempotencyRecord.class));
+    }
+
+    @Test
+    void execute_ReplaysRecordedResponseWithoutRunning() {
+        when(idempotencyRecordRepository.findById("1:key")).thenReturn(Optional.of(IdempotencyRecord.builder()
+                .scopedKey("1:key").requestFingerprint("fingerprint")
+                .responseStatus(201).contentType("application/json").responseBody("{\"id\":1}")
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build()));
+
+        IdempotencyStore.Response response = store.execute("1:key", "fingerprint", () -> fail("must not run"));
+
+        assertEquals(CREATED, response);
+        verify(idempotencyRecordRepository, never()).save(any());
+    }
+
+    @Test
+    void execute_KeyReusedForDifferentRequest_Throws() {
+        when(idempotencyRecordRepository.findById("1:key")).thenReturn(Optional.empty());
+        store.execute("1:key", "fingerprint", () -> CREATED);
+
+        assertThrows(IdempotencyKeyReusedException.class,
+                () -> store.execute("1:key", "other", () -> fail("must not run")));
+    }
+
+    @Test
+    void execute_ServerErrorIsNotRecorded() {
+        when(idempotencyRecordRepository.findById("1:key")).thenReturn(Optional.empty());
+        IdempotencyStore.Response failure = new IdempotencyStore.Response(500, "application/json", "{}");
+        AtomicInteger executions = new AtomicInteger();
+
+        store.execute("1:key", "fingerprint", () -> {
+            executions.incrementAndGet();
+            return failure;
+        });
+        IdempotencyStore.Response retried = store.execute("1:key", "fingerprint", () -> {
+            executions.incrementAndGet();
+            return CREATED;
+        });
+
+        assertEquals(CREATED, retried);
+        assertEquals(2, executions.get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.opsrequests.service;
+
+import com.opsrequests.exception.UnauthorizedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestDetailCacheTest {
+
+    private MeterRegistry meterRegistry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void get_ConcurrentMissesShareOneLoad() throws Exception {
+        RequestDetailCache cache = new RequestDetailCache(meterRegistry, 1 << 20, 60000);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<RequestDetailCache.Entry> first = executor.submit(() -> cache.get(1L, () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return entry("1.0", 100);
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        Future<RequestDetailCache.Entry> second = executor.submit(() -> cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return entry("other", 100);
+        }));
+        release.countDown();
+
+        assertEquals("1.0", first.get(5, TimeUnit.SECONDS).version());
+        assertEquals("1.0", second.get(5, TimeUnit.SECONDS).version());
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("request.detail.cache.requests").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void get_FailedLoadIsRetriedByTheNextCaller() {
+        RequestDetailCache cache = new RequestDetailCache(meterRegistry, 1 << 20, 60000);
+
+        assertThrows(UnauthorizedException.class, () -> cache.get(1L, () -> {
+            throw new UnauthorizedException("Access denied");
+        }));
+
+        assertEquals("1.0", cache.get(1L, () -> entry("1.0", 100)).version());
+        assertEquals(100 + 256, cache.size());
+    }
+
+    @Test
+    void evict_DuringLoadKeepsTheResultOutOfTheCache() {
+        RequestDetailCache cache = new RequestDetailCache(meterRegistry, 1 << 20, 60000);
+
+        RequestDetailCache.Entry stale = cache.get(1L, () -> {
+            cache.evict(1L);
+            return entry("1.0", 100);
+        });
+
+        assertEquals("1.0", stale.version());
+        assertEquals(0, cache.size());
+        assertEquals("2.0", cache.get(1L, () -> entry("2.0", 100)).version());
+    }
+
+    @Test
+    void evict_RepeatsWhenTheTransactionCompletes() {
+        RequestDetailCache cache = new RequestDetailCache(meterRegistry, 1 << 20, 60000);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.evict(1L);
+            // A reader that still saw the old state before the writer committed
+            cache.get(1L, () -> entry("1.0", 100));
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals("2.0", cache.get(1L, () -> entry("2.0", 100)).version());
+    }
+
+    @Test
+    void get_StaysWithinTheByteBudget() {
+        RequestDetailCache cache = new RequestDetailCache(meterRegistry, 10_000, 60000);
+
+        for (long id = 1; id <= 20; id++) {
+            cache.get(id, () -> entry("1.0", 1000));
+        }
+        assertTrue(cache.size() <= 10_000, "cached " + cache.size() + " bytes");
+        // The most recent load is kept; an entry over the whole budget is never cached
+        assertEquals("1.0", cache.get(20L, () -> entry("reloaded", 1000)).version());
+        cache.get(99L, () -> entry("1.0", 20_000));
+        assertTrue(cache.size() <= 10_000, "cached " + cache.size() + " bytes");
+    }
+
+    @Test
+    void get_ReloadsExpiredEntries() {
+        RequestDetailCache cache = new RequestDetailCache(meterRegistry, 1 << 20, 0);
+
+        cache.get(1L, () -> entry("1.0", 100));
+
+        assertEquals("2.0", cache.get(1L, () -> entry("2.0", 100)).version());
+    }
+
+    private static RequestDetailCache.Entry entry(String version, int bytes) {
+        return new RequestDetailCache.Entry(version, new byte[bytes], 1L, 2L);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
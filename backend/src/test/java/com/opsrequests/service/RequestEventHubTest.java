@@ -0,0 +1,92 @@
+package com.opsrequests.service;
+
+import com.opsrequests.dto.response.RequestEventResponse;
+import com.opsrequests.entity.Request.Status;
+import com.opsrequests.entity.User;
+import com.opsrequests.exception.ServiceUnavailableException;
+import com.opsrequests.security.UserPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestEventHubTest {
+
+    private static final long EMPLOYEE_ID = 1L;
+    private static final long MANAGER_ID = 2L;
+
+    private MeterRegistry meterRegistry;
+    private List<Runnable> pendingSends;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pendingSends = new ArrayList<>();
+    }
+
+    @Test
+    void publish_SlowSubscribersOfTheRequestAreEvicted() {
+        // Sends never run, so buffers only fill; the "connected" comment takes the first slot
+        RequestEventHub hub = new RequestEventHub(pendingSends::add, meterRegistry, 2, 60000, 100);
+        hub.subscribe(principal(EMPLOYEE_ID, User.Role.EMPLOYEE));
+        hub.subscribe(principal(MANAGER_ID, User.Role.MANAGER));
+        hub.subscribe(principal(3L, User.Role.MANAGER));
+        hub.subscribe(principal(4L, User.Role.ADMIN));
+
+        hub.publish(event(), EMPLOYEE_ID, MANAGER_ID);
+        assertEquals(4, hub.subscriberCount());
+
+        hub.publish(event(), EMPLOYEE_ID, MANAGER_ID);
+        // Requester, manager and admin fell behind; the unrelated manager never received anything
+        assertEquals(1, hub.subscriberCount());
+        assertEquals(3.0, meterRegistry.get("request.events.evictions").counter().count());
+        assertEquals(1.0, meterRegistry.get("request.events.subscribers").gauge().value());
+
+        pendingSends.forEach(Runnable::run);
+        assertEquals(1, hub.subscriberCount());
+    }
+
+    @Test
+    void publish_DrainedSubscriberKeepsUp() {
+        RequestEventHub hub = new RequestEventHub(Runnable::run, meterRegistry, 2, 60000, 100);
+        hub.subscribe(principal(MANAGER_ID, User.Role.MANAGER));
+
+        for (int i = 0; i < 10; i++) {
+            hub.publish(event(), EMPLOYEE_ID, MANAGER_ID);
+            hub.heartbeat();
+        }
+
+        assertEquals(1, hub.subscriberCount());
+        assertEquals(0.0, meterRegistry.get("request.events.evictions").counter().count());
+    }
+
+    @Test
+    void subscribe_RefusesStreamsOverTheLimit() {
+        RequestEventHub hub = new RequestEventHub(Runnable::run, meterRegistry, 2, 60000, 1);
+        hub.subscribe(principal(MANAGER_ID, User.Role.MANAGER));
+
+        assertThrows(ServiceUnavailableException.class, () -> hub.subscribe(principal(MANAGER_ID, User.Role.MANAGER)));
+        assertEquals(1, hub.subscriberCount());
+    }
+
+    private static UserPrincipal principal(long id, User.Role role) {
+        return UserPrincipal.create(User.builder()
+                .id(id).email("user" + id + "@test.com").password("password").role(role).active(true).build());
+    }
+
+    private static RequestEventResponse event() {
+        return RequestEventResponse.builder()
+                .type(RequestEventResponse.Type.STATUS_CHANGED)
+                .requestId(10L)
+                .status(Status.APPROVED)
+                .actorId(MANAGER_ID)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -2,12 +2,15 @@ package com.opsrequests.service;
 
 import com.opsrequests.dto.request.CreateRequestRequest;
 import com.opsrequests.dto.response.RequestResponse;
+import com.opsrequests.dto.response.ResponseMapper;
 import com.opsrequests.entity.Request;
 import com.opsrequests.entity.Request.Priority;
 import com.opsrequests.entity.Request.Status;
+import com.opsrequests.entity.RequestAuditEvent.EventType;
 import com.opsrequests.entity.RequestType;
 import com.opsrequests.entity.User;
 import com.opsrequests.exception.BadRequestException;
+import com.opsrequests.exception.ConflictException;
 import com.opsrequests.exception.ResourceNotFoundException;
 import com.opsrequests.repository.*;
 import com.opsrequests.security.UserPrincipal;
@@ -25,6 +28,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,7 +47,25 @@ class RequestServiceTest {
     private RequestCommentRepository commentRepository;
 
     @Mock
-    private RequestAuditEventRepository auditEventRepository;
+    private AuditOutbox auditOutbox;
+
+    @Mock
+    private RequestReadRepository requestReadRepository;
+
+    @Mock
+    private RequestStatsService requestStatsService;
+
+    @Mock
+    private RequestReadModelService requestReadModelService;
+
+    @Mock
+    private RequestSearchIndex requestSearchIndex;
+
+    @Mock
+    private RequestEventHub requestEventHub;
+
+    @Mock
+    private RequestDetailCache requestDetailCache;
 
     @InjectMocks
     private RequestService requestService;
@@ -113,7 +135,6 @@ class RequestServiceTest {
         when(userRepository.findById(1L)).thenReturn(Optional.of(employee));
         when(userRepository.findById(2L)).thenReturn(Optional.of(manager));
         when(requestRepository.save(any(Request.class))).thenReturn(request);
-        when(auditEventRepository.save(any())).thenReturn(null);
 
         RequestResponse response = requestService.createRequest(createRequest, employeePrincipal);
 
@@ -122,7 +143,9 @@ class RequestServiceTest {
         assertEquals(Status.SUBMITTED, response.getStatus());
 
         verify(requestRepository).save(any(Request.class));
-        verify(auditEventRepository).save(any());
+        verify(auditOutbox).record(eq(request.getId()), eq(employee.getId()), eq(EventType.CREATED), isNull(),
+                eq(Status.SUBMITTED.name()), isNull());
+        verify(requestStatsService).recordCreated(request);
     }
 
     @Test
@@ -142,13 +165,30 @@ class RequestServiceTest {
 
     @Test
     void getRequests_Employee_ReturnsOwnRequests() {
-        when(requestRepository.findByRequesterId(1L)).thenReturn(List.of(request));
+        when(requestReadRepository.findRequests(any(RequestFilter.class)))
+                .thenReturn(List.of(ResponseMapper.toRequestResponse(request)));
 
         List<RequestResponse> responses = requestService.getRequests(employeePrincipal, null, null, null);
 
         assertNotNull(responses);
         assertEquals(1, responses.size());
-        verify(requestRepository).findByRequesterId(1L);
+        verify(requestReadRepository).findRequests(argThat(filter -> filter.getRequesterId().equals(1L)));
+    }
+
+    @Test
+    void getRequests_UnknownStatus_ReturnsEmptyWithoutQuery() {
+        List<RequestResponse> responses = requestService.getRequests(employeePrincipal, "BOGUS", null, null);
+
+        assertTrue(responses.isEmpty());
+        verifyNoInteractions(requestReadRepository);
+    }
+
+    @Test
+    void getRequestPage_InvalidCursor_ThrowsException() {
+        assertThrows(BadRequestException.class,
+                () -> requestService.getRequestPage(employeePrincipal, null, null, null, null, null, "!!", 10));
+
+        verifyNoInteractions(requestReadRepository);
     }
 
     @Test
@@ -161,4 +201,23 @@ class RequestServiceTest {
 
         verify(requestRepository, never()).save(any(Request.class));
     }
+
+    @Test
+    void cancelRequest_LostRace_ThrowsConflictWithCurrentState() {
+        Request approved = Request.builder()
+                .id(1L).requester(employee).manager(manager).type(requestType).title("Test Request")
+                .priority(Priority.MEDIUM).status(Status.APPROVED)
+                .createdAt(LocalDateTime.now()).updatedAt(LocalDateTime.now())
+                .build();
+        when(requestRepository.findById(1L)).thenReturn(Optional.of(request));
+        when(requestRepository.updateStatus(eq(1L), eq(Status.SUBMITTED), eq(Status.CANCELLED), any()))
+                .thenReturn(0);
+        when(requestRepository.findWithPartiesById(1L)).thenReturn(Optional.of(approved));
+
+        ConflictException conflict = assertThrows(ConflictException.class,
+                () -> requestService.cancelRequest(1L, employeePrincipal));
+
+        assertEquals(Status.APPROVED, conflict.getCurrent().getStatus());
+        verifyNoInteractions(auditOutbox, requestStatsService, requestReadModelService);
+    }
 }
@@ -0,0 +1,157 @@
+package com.opsrequests.service;
+
+import com.opsrequests.dto.response.RequestStatsResponse;
+import com.opsrequests.entity.Request;
+import com.opsrequests.entity.Request.Priority;
+import com.opsrequests.entity.Request.Status;
+import com.opsrequests.entity.RequestType;
+import com.opsrequests.entity.User;
+import com.opsrequests.repository.RequestCountRow;
+import com.opsrequests.repository.RequestRepository;
+import com.opsrequests.security.UserPrincipal;
+import com.opsrequests.service.RequestStatsService.Bucket;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RequestStatsServiceTest {
+
+    @Mock
+    private RequestRepository requestRepository;
+
+    @InjectMocks
+    private RequestStatsService requestStatsService;
+
+    private UserPrincipal adminPrincipal;
+    private UserPrincipal managerPrincipal;
+    private UserPrincipal employeePrincipal;
+    private Request request;
+
+    @BeforeEach
+    void setUp() {
+        adminPrincipal = new UserPrincipal(9L, "admin@example.com", "password", User.Role.ADMIN, null, true);
+        managerPrincipal = new UserPrincipal(2L, "manager@example.com", "password", User.Role.MANAGER, null, true);
+        employeePrincipal = new UserPrincipal(1L, "employee@example.com", "password", User.Role.EMPLOYEE, 2L, true);
+
+        request = Request.builder()
+                .id(10L)
+                .requester(User.builder().id(1L).build())
+                .manager(User.builder().id(2L).build())
+                .type(RequestType.builder().id(5L).build())
+                .priority(Priority.HIGH)
+                .status(Status.SUBMITTED)
+                .build();
+
+        when(requestRepository.countByScopeAndBucket()).thenReturn(List.of(
+                row(1L, 2L, Status.SUBMITTED, 5L, Priority.HIGH, 3),
+                row(1L, 2L, Status.DONE, 6L, Priority.LOW, 2),
+                row(3L, null, Status.SUBMITTED, 5L, Priority.LOW, 4)));
+        requestStatsService.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void getStats_ScopesCountersByRole() {
+        RequestStatsResponse admin = requestStatsService.getStats(adminPrincipal);
+        assertEquals(9, admin.getTotal());
+        assertEquals(7L, admin.getByStatus().get(Status.SUBMITTED));
+        assertEquals(7L, admin.getByType().get(5L));
+        assertEquals(6L, admin.getByPriority().get(Priority.LOW));
+
+        assertEquals(5, requestStatsService.getStats(managerPrincipal).getTotal());
+        assertEquals(5, requestStatsService.getStats(employeePrincipal).getTotal());
+    }
+
+    @Test
+    void getStats_ManagerSeesOwnSubmissionsToo() {
+        requestStatsService.recordCreated(Request.builder()
+                .id(11L)
+                .requester(User.builder().id(2L).build())
+                .type(RequestType.builder().id(6L).build())
+                .priority(Priority.MEDIUM)
+                .status(Status.SUBMITTED)
+                .build());
+
+        RequestStatsResponse manager = requestStatsService.getStats(managerPrincipal);
+        assertEquals(6, manager.getTotal());
+        assertEquals(4L, manager.getByStatus().get(Status.SUBMITTED));
+        assertEquals(1L, manager.getByPriority().get(Priority.MEDIUM));
+    }
+
+    @Test
+    void recordChanged_MovesCountBetweenBuckets() {
+        Bucket before = Bucket.of(request);
+        request.setStatus(Status.APPROVED);
+
+        requestStatsService.recordChanged(request, before);
+
+        RequestStatsResponse manager = requestStatsService.getStats(managerPrincipal);
+        assertEquals(5, manager.getTotal());
+        assertEquals(2L, manager.getByStatus().get(Status.SUBMITTED));
+        assertEquals(1L, manager.getByStatus().get(Status.APPROVED));
+    }
+
+    @Test
+    void recordCreated_AppliedOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        requestStatsService.recordCreated(request);
+        assertEquals(9, requestStatsService.getStats(adminPrincipal).getTotal());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(10, requestStatsService.getStats(adminPrincipal).getTotal());
+    }
+
+    private static RequestCountRow row(Long requesterId, Long managerId, Status status, Long typeId,
+                                       Priority priority, long total) {
+        return new RequestCountRow() {
+            @Override
+            public Long getRequesterId() {
+                return requesterId;
+            }
+
+            @Override
+            public Long getManagerId() {
+                return managerId;
+            }
+
+            @Override
+            public Status getStatus() {
+                return status;
+            }
+
+            @Override
+            public Long getTypeId() {
+                return typeId;
+            }
+
+            @Override
+            public Priority getPriority() {
+                return priority;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+}
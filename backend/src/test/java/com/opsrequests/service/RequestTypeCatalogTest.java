@@ -0,0 +1,60 @@
+package com.opsrequests.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opsrequests.entity.RequestType;
+import com.opsrequests.repository.RequestTypeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RequestTypeCatalogTest {
+
+    @Mock
+    private RequestTypeRepository requestTypeRepository;
+
+    private RequestTypeCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new RequestTypeCatalog(requestTypeRepository, new ObjectMapper());
+    }
+
+    @Test
+    void current_LoadsOnceAndServesSnapshot() {
+        when(requestTypeRepository.findByActiveTrue()).thenReturn(List.of(type(1L, "IT", "IT Access")));
+
+        RequestTypeCatalog.Snapshot first = catalog.current();
+
+        assertSame(first, catalog.current());
+        assertEquals(1, first.types().size());
+        assertEquals("[{\"id\":1,\"code\":\"IT\",\"name\":\"IT Access\",\"active\":true}]", new String(first.json()));
+        verify(requestTypeRepository, times(1)).findByActiveTrue();
+    }
+
+    @Test
+    void refresh_ChangesEtagOnlyWhenContentChanges() {
+        when(requestTypeRepository.findByActiveTrue())
+                .thenReturn(List.of(type(1L, "IT", "IT Access")))
+                .thenReturn(List.of(type(1L, "IT", "IT Access")))
+                .thenReturn(List.of(type(1L, "IT", "IT Access"), type(2L, "HR", "HR")));
+
+        String initial = catalog.refresh().etag();
+
+        assertEquals(initial, catalog.refresh().etag());
+        RequestTypeCatalog.Snapshot changed = catalog.refresh();
+        assertNotEquals(initial, changed.etag());
+        assertSame(changed, catalog.current());
+    }
+
+    private static RequestType type(Long id, String code, String name) {
+        return RequestType.builder().id(id).code(code).name(name).active(true).build();
+    }
+}
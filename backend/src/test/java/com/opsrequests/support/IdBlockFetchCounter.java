@@ -0,0 +1,33 @@
+package com.opsrequests.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the sequence selects Hibernate issues to fetch a new block of pooled ids. Whether a test pays for one
+ * depends on how many ids earlier tests drew from the shared pool, so {@link SqlStatementBudgetExtension} leaves
+ * them out of the budget. Registered through {@code hibernate.session_factory.statement_inspector}.
+ */
+public class IdBlockFetchCounter implements StatementInspector {
+
+    private static final AtomicLong FETCHES = new AtomicLong();
+
+    @Override
+    public String inspect(String sql) {
+        String normalized = sql.stripLeading().toLowerCase(Locale.ROOT);
+        if (normalized.startsWith("select next value for ") || normalized.startsWith("select nextval(")) {
+            FETCHES.incrementAndGet();
+        }
+        return sql;
+    }
+
+    static void reset() {
+        FETCHES.set(0);
+    }
+
+    static long fetches() {
+        return FETCHES.get();
+    }
+}
@@ -0,0 +1,42 @@
+package com.opsrequests.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Counts statements through Hibernate statistics, so the test profile must set
+ * {@code hibernate.generate_statistics}. Pooled id block fetches seen by {@link IdBlockFetchCounter} are
+ * subtracted, which keeps the count the same whichever tests ran first.
+ */
+public class SqlStatementBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        Statistics statistics = statistics(context);
+        assertTrue(statistics.isStatisticsEnabled(), "hibernate.generate_statistics must be enabled");
+        statistics.clear();
+        IdBlockFetchCounter.reset();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        SqlStatementBudget budget = context.getRequiredTestMethod().getAnnotation(SqlStatementBudget.class);
+        long executed = statistics(context).getPrepareStatementCount() - IdBlockFetchCounter.fetches();
+        assertTrue(executed <= budget.value(),
+                "Expected at most " + budget.value() + " SQL statements but " + executed + " were executed");
+    }
+
+    private Statistics statistics(ExtensionContext context) {
+        return SpringExtension.getApplicationContext(context)
+                .getBean(EntityManagerFactory.class)
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+}
@@ -0,0 +1,2 @@
+-- Run by Hibernate after create-drop builds the schema: objects the entity mappings cannot declare
+CREATE SEQUENCE request_change_seq;
@@ -8,8 +8,9 @@ import PriorityBadge from '@/components/PriorityBadge';
 import CommentSection from '@/components/CommentSection';
 import ApprovalActions from '@/components/ApprovalActions';
 import { getCurrentUser } from '@/lib/auth';
+import { useIdempotencyKeys } from '@/lib/idempotency';
 import { api } from '@/services/api';
-import { RequestDetail, User } from '@/types';
+import { AuditEvent, RequestComment, RequestDetail, User } from '@/types';
 import { formatDate, formatCurrency, getErrorMessage } from '@/lib/utils';
 
 export default function RequestDetailPage() {
@@ -23,11 +24,22 @@ export default function RequestDetailPage() {
   const [actionLoading, setActionLoading] = useState(false);
   const [error, setError] = useState('');
   const [success, setSuccess] = useState('');
+  // Entries older than the ones embedded in the detail, oldest first, and the cursor to the next page
+  const [olderComments, setOlderComments] = useState<RequestComment[]>([]);
+  const [commentsCursor, setCommentsCursor] = useState<string | undefined>();
+  const [olderAuditEvents, setOlderAuditEvents] = useState<AuditEvent[]>([]);
+  const [auditEventsCursor, setAuditEventsCursor] = useState<string | undefined>();
+  const [loadingOlder, setLoadingOlder] = useState(false);
+  const idempotencyKeys = useIdempotencyKeys();
 
   const fetchRequest = useCallback(async () => {
     try {
       const data = await api.getRequest(requestId);
       setRequest(data);
+      setOlderComments([]);
+      setCommentsCursor(data.commentsCursor);
+      setOlderAuditEvents([]);
+      setAuditEventsCursor(data.auditEventsCursor);
     } catch (error) {
       setError('Failed to load request');
     } finally {
@@ -49,7 +61,8 @@ export default function RequestDetailPage() {
     setActionLoading(true);
     setError('');
     try {
-      await api.addComment(requestId, comment);
+      await api.addComment(requestId, comment, idempotencyKeys.keyFor('comment', comment));
+      idempotencyKeys.done('comment');
       setSuccess('Comment added successfully');
       await fetchRequest();
       setTimeout(() => setSuccess(''), 3000);
@@ -60,11 +73,38 @@ export default function RequestDetailPage() {
     }
   };
 
+  const handleLoadOlderComments = async () => {
+    setLoadingOlder(true);
+    try {
+      const page = await api.getComments(requestId, commentsCursor);
+      setOlderComments((loaded) => [...page.items.reverse(), ...loaded]);
+      setCommentsCursor(page.nextCursor);
+    } catch (error: unknown) {
+      setError(getErrorMessage(error, 'Failed to load older comments'));
+    } finally {
+      setLoadingOlder(false);
+    }
+  };
+
+  const handleLoadOlderAuditEvents = async () => {
+    setLoadingOlder(true);
+    try {
+      const page = await api.getAuditEvents(requestId, auditEventsCursor);
+      setOlderAuditEvents((loaded) => [...page.items.reverse(), ...loaded]);
+      setAuditEventsCursor(page.nextCursor);
+    } catch (error: unknown) {
+      setError(getErrorMessage(error, 'Failed to load older audit events'));
+    } finally {
+      setLoadingOlder(false);
+    }
+  };
+
   const handleApprove = async (comment: string) => {
     setActionLoading(true);
     setError('');
     try {
-      await api.approveRequest(requestId, comment);
+      await api.approveRequest(requestId, comment, idempotencyKeys.keyFor('approve', comment));
+      idempotencyKeys.done('approve');
       setSuccess('Request approved successfully');
       await fetchRequest();
       setTimeout(() => setSuccess(''), 3000);
@@ -79,7 +119,8 @@ export default function RequestDetailPage() {
     setActionLoading(true);
     setError('');
     try {
-      await api.rejectRequest(requestId, comment);
+      await api.rejectRequest(requestId, comment, idempotencyKeys.keyFor('reject', comment));
+      idempotencyKeys.done('reject');
       setSuccess('Request rejected');
       await fetchRequest();
       setTimeout(() => setSuccess(''), 3000);
@@ -96,7 +137,8 @@ export default function RequestDetailPage() {
     setActionLoading(true);
     setError('');
     try {
-      await api.cancelRequest(requestId);
+      await api.cancelRequest(requestId, idempotencyKeys.keyFor('cancel'));
+      idempotencyKeys.done('cancel');
       setSuccess('Request cancelled successfully');
       await fetchRequest();
       setTimeout(() => setSuccess(''), 3000);
@@ -111,7 +153,8 @@ export default function RequestDetailPage() {
     setActionLoading(true);
     setError('');
     try {
-      await api.changeStatus(requestId, status);
+      await api.changeStatus(requestId, status, idempotencyKeys.keyFor('status', status));
+      idempotencyKeys.done('status');
       setSuccess(`Status changed to ${status}`);
       await fetchRequest();
       setTimeout(() => setSuccess(''), 3000);
@@ -148,6 +191,11 @@ export default function RequestDetailPage() {
     );
   }
 
+  const comments = [...olderComments, ...request.comments];
+  const auditEvents = [...olderAuditEvents, ...request.auditEvents];
+  const olderCommentCount = commentsCursor ? request.commentCount - comments.length : 0;
+  const olderAuditEventCount = auditEventsCursor ? request.auditEventCount - auditEvents.length : 0;
+
   const canEdit = user.id === request.requester.id && request.status === 'SUBMITTED';
   const canCancel = user.id === request.requester.id && request.status === 'SUBMITTED';
   const canApprove = user.role === 'MANAGER' && request.status === 'SUBMITTED' && user.id === request.manager?.id;
@@ -258,10 +306,20 @@ export default function RequestDetailPage() {
           <div className="bg-white border rounded-lg p-6 mb-6">
             <h3 className="text-lg font-semibold mb-4">Audit Trail</h3>
             <div className="space-y-3">
-              {request.auditEvents.length === 0 ? (
+              {olderAuditEventCount > 0 && (
+                <button
+                  type="button"
+                  onClick={handleLoadOlderAuditEvents}
+                  disabled={loadingOlder}
+                  className="text-sm text-blue-600 hover:text-blue-800 disabled:text-gray-400"
+                >
+                  {loadingOlder ? 'Loading...' : `Load older events (${olderAuditEventCount} more)`}
+                </button>
+              )}
+              {auditEvents.length === 0 ? (
                 <p className="text-gray-500 text-sm">No audit events yet.</p>
               ) : (
-                request.auditEvents.map((event) => (
+                auditEvents.map((event) => (
                   <div key={event.id} className="border-l-4 border-blue-300 pl-4 py-2">
                     <div className="flex justify-between items-start mb-1">
                       <span className="font-medium text-sm">{event.actor.email}</span>
@@ -282,9 +340,12 @@ export default function RequestDetailPage() {
 
           <div className="bg-white border rounded-lg p-6">
             <CommentSection
-              comments={request.comments}
+              comments={comments}
               onAddComment={handleAddComment}
               loading={actionLoading}
+              olderCount={olderCommentCount}
+              onLoadOlder={handleLoadOlderComments}
+              loadingOlder={loadingOlder}
             />
           </div>
         </div>
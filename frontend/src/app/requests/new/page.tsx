@@ -5,6 +5,7 @@ import { useRouter } from 'next/navigation';
 import Navbar from '@/components/Navbar';
 import RequestForm from '@/components/RequestForm';
 import { getCurrentUser } from '@/lib/auth';
+import { useIdempotencyKeys } from '@/lib/idempotency';
 import { api } from '@/services/api';
 import { CreateRequestData } from '@/types';
 
@@ -13,6 +14,7 @@ export default function NewRequestPage() {
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState('');
   const [success, setSuccess] = useState('');
+  const idempotencyKeys = useIdempotencyKeys();
 
   useEffect(() => {
     const user = getCurrentUser();
@@ -27,7 +29,8 @@ export default function NewRequestPage() {
     setSuccess('');
 
     try {
-      const request = await api.createRequest(data);
+      // Kept after success too: a second click while the page redirects replays the created request
+      const request = await api.createRequest(data, idempotencyKeys.keyFor('create', data));
       setSuccess('Request created successfully!');
       setTimeout(() => {
         router.push(`/requests/${request.id}`);
@@ -8,9 +8,19 @@ interface CommentSectionProps {
   comments: RequestComment[];
   onAddComment: (comment: string) => void;
   loading: boolean;
+  olderCount: number;
+  onLoadOlder: () => void;
+  loadingOlder: boolean;
 }
 
-export default function CommentSection({ comments, onAddComment, loading }: CommentSectionProps) {
+export default function CommentSection({
+  comments,
+  onAddComment,
+  loading,
+  olderCount,
+  onLoadOlder,
+  loadingOlder,
+}: CommentSectionProps) {
   const [newComment, setNewComment] = useState('');
 
   const handleSubmit = (e: React.FormEvent) => {
@@ -43,6 +53,16 @@ export default function CommentSection({ comments, onAddComment, loading }: Comm
       </form>
 
       <div className="space-y-3">
+        {olderCount > 0 && (
+          <button
+            type="button"
+            onClick={onLoadOlder}
+            disabled={loadingOlder}
+            className="text-sm text-blue-600 hover:text-blue-800 disabled:text-gray-400"
+          >
+            {loadingOlder ? 'Loading...' : `Load older comments (${olderCount} more)`}
+          </button>
+        )}
         {comments.length === 0 ? (
           <p className="text-gray-500 text-sm">No comments yet.</p>
         ) : (
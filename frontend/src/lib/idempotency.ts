@@ -0,0 +1,44 @@
+import { useMemo, useRef } from 'react';
+
+// crypto.randomUUID only exists in secure contexts; getRandomValues works over plain HTTP too
+export const newIdempotencyKey = (): string => {
+  if (typeof crypto.randomUUID === 'function') {
+    return crypto.randomUUID();
+  }
+  const bytes = crypto.getRandomValues(new Uint8Array(16));
+  bytes[6] = (bytes[6] & 0x0f) | 0x40;
+  bytes[8] = (bytes[8] & 0x3f) | 0x80;
+  const hex = Array.from(bytes, (b) => b.toString(16).padStart(2, '0')).join('');
+  return `${hex.slice(0, 8)}-${hex.slice(8, 12)}-${hex.slice(12, 16)}-${hex.slice(16, 20)}-${hex.slice(20)}`;
+};
+
+export interface IdempotencyKeys {
+  keyFor: (action: string, payload?: unknown) => string;
+  done: (action: string) => void;
+}
+
+// Keys for the actions on one screen: repeating an action with the same payload reuses its key, so a
+// re-click or retry is replayed by the backend instead of run twice. A new payload gets a new key, and
+// done() forgets the key once the screen has moved on.
+export const useIdempotencyKeys = (): IdempotencyKeys => {
+  const keys = useRef(new Map<string, { payload: string; key: string }>());
+
+  return useMemo(
+    () => ({
+      keyFor: (action: string, payload?: unknown): string => {
+        const serialized = JSON.stringify(payload ?? null);
+        const current = keys.current.get(action);
+        if (current && current.payload === serialized) {
+          return current.key;
+        }
+        const key = newIdempotencyKey();
+        keys.current.set(action, { payload: serialized, key });
+        return key;
+      },
+      done: (action: string): void => {
+        keys.current.delete(action);
+      },
+    }),
+    []
+  );
+};
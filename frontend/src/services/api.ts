@@ -1,8 +1,10 @@
-import axios, { AxiosInstance } from 'axios';
+import axios, { AxiosInstance, AxiosRequestConfig, InternalAxiosRequestConfig } from 'axios';
 import {
   User,
   Request,
   RequestDetail,
+  CommentPage,
+  AuditEventPage,
   RequestType,
   LoginRequest,
   RegisterRequest,
@@ -32,6 +34,12 @@ const getApiUrl = (): string => {
   return 'http://localhost:38081/api';
 };
 
+const MAX_RETRIES = 2;
+
+// Keys come from the caller, once per user action, so re-clicks and retries share them
+const withIdempotencyKey = (idempotencyKey?: string): AxiosRequestConfig | undefined =>
+  idempotencyKey ? { headers: { 'Idempotency-Key': idempotencyKey } } : undefined;
+
 class ApiService {
   private api: AxiosInstance;
   private apiUrlResolved = false;
@@ -69,6 +77,13 @@ class ApiService {
     this.api.interceptors.response.use(
       (response) => response,
       (error) => {
+        // A request with an Idempotency-Key is safe to resend after a network error: if the first
+        // attempt did reach the backend, the retry gets its response replayed
+        const config = error.config as (InternalAxiosRequestConfig & { retries?: number }) | undefined;
+        if (!error.response && config?.headers?.['Idempotency-Key'] && (config.retries ?? 0) < MAX_RETRIES) {
+          config.retries = (config.retries ?? 0) + 1;
+          return this.api.request(config);
+        }
         if (error.response?.status === 401) {
           if (typeof window !== 'undefined') {
             localStorage.removeItem('token');
@@ -106,8 +121,18 @@ class ApiService {
     return response.data;
   }
 
-  async createRequest(data: CreateRequestData): Promise<Request> {
-    const response = await this.api.post('/requests', data);
+  async getComments(id: number, cursor?: string): Promise<CommentPage> {
+    const response = await this.api.get(`/requests/${id}/comments`, { params: { cursor } });
+    return response.data;
+  }
+
+  async getAuditEvents(id: number, cursor?: string): Promise<AuditEventPage> {
+    const response = await this.api.get(`/requests/${id}/audit-events`, { params: { cursor } });
+    return response.data;
+  }
+
+  async createRequest(data: CreateRequestData, idempotencyKey?: string): Promise<Request> {
+    const response = await this.api.post('/requests', data, withIdempotencyKey(idempotencyKey));
     return response.data;
   }
 
@@ -116,26 +141,26 @@ class ApiService {
     return response.data;
   }
 
-  async cancelRequest(id: number): Promise<void> {
-    await this.api.post(`/requests/${id}/cancel`);
+  async cancelRequest(id: number, idempotencyKey?: string): Promise<void> {
+    await this.api.post(`/requests/${id}/cancel`, undefined, withIdempotencyKey(idempotencyKey));
   }
 
-  async approveRequest(id: number, comment: string): Promise<void> {
+  async approveRequest(id: number, comment: string, idempotencyKey?: string): Promise<void> {
     const data: ApprovalData = { comment };
-    await this.api.post(`/requests/${id}/approve`, data);
+    await this.api.post(`/requests/${id}/approve`, data, withIdempotencyKey(idempotencyKey));
   }
 
-  async rejectRequest(id: number, comment: string): Promise<void> {
+  async rejectRequest(id: number, comment: string, idempotencyKey?: string): Promise<void> {
     const data: ApprovalData = { comment };
-    await this.api.post(`/requests/${id}/reject`, data);
+    await this.api.post(`/requests/${id}/reject`, data, withIdempotencyKey(idempotencyKey));
   }
 
-  async changeStatus(id: number, status: string): Promise<void> {
-    await this.api.post(`/requests/${id}/status`, { status });
+  async changeStatus(id: number, status: string, idempotencyKey?: string): Promise<void> {
+    await this.api.post(`/requests/${id}/status`, { status }, withIdempotencyKey(idempotencyKey));
   }
 
-  async addComment(id: number, comment: string): Promise<void> {
-    await this.api.post(`/requests/${id}/comments`, { comment });
+  async addComment(id: number, comment: string, idempotencyKey?: string): Promise<void> {
+    await this.api.post(`/requests/${id}/comments`, { comment }, withIdempotencyKey(idempotencyKey));
   }
 
   async getRequestTypes(): Promise<RequestType[]> {
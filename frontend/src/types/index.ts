@@ -45,8 +45,24 @@ export interface AuditEvent {
 }
 
 export interface RequestDetail extends Request {
+  // Latest entries only; older ones are paged from the cursors
   comments: RequestComment[];
+  commentCount: number;
+  commentsCursor?: string;
   auditEvents: AuditEvent[];
+  auditEventCount: number;
+  auditEventsCursor?: string;
+}
+
+// Newest first; pass nextCursor back as cursor for the next, older page
+export interface CommentPage {
+  items: RequestComment[];
+  nextCursor?: string;
+}
+
+export interface AuditEventPage {
+  items: AuditEvent[];
+  nextCursor?: string;
 }
 
 export interface LoginRequest {